@@ -235,6 +235,51 @@ class IsolatedProjectsBuildOperationsIntegrationTest extends AbstractIsolatedPro
         outputDoesNotContain("file '${relpath(buildFileB)}' has changed")
     }
 
+    def "emits fingerprint check operation with every invalidated project when running tasks"() {
+        given:
+        settingsFile """
+            include("a")
+            include("b")
+        """
+
+        def buildFileA = buildFile("a/build.gradle", "")
+        def buildFileB = buildFile("b/build.gradle", "")
+
+        isolatedProjectsRun("help")
+
+        when: "subproject scripts are invalidated"
+        buildFile(buildFileA, """
+            println("project a updated")
+        """)
+        buildFile(buildFileB, """
+            println("project b updated")
+        """)
+        isolatedProjectsRun("help")
+
+        then: "emits invalidation reasons for both subprojects"
+        with(operations.only(ConfigurationCacheCheckFingerprintBuildOperationType).result) {
+            status == "PARTIAL"
+            buildInvalidationReasons == []
+            projectInvalidationReasons.sort(false) { it.projectPath } == [
+                [
+                    buildPath: ":",
+                    projectPath: ":a",
+                    invalidationReasons: [
+                        [message: "file '${relpath(buildFileA)}' has changed"]
+                    ]
+                ],
+                [
+                    buildPath: ":",
+                    projectPath: ":b",
+                    invalidationReasons: [
+                        [message: "file '${relpath(buildFileB)}' has changed"]
+                    ]
+                ]
+            ]
+            originBuildInvocationId != null
+        }
+    }
+
     def "emits fingerprint check operation when invalidating dependency"() {
         given:
         withSomeToolingModelBuilderPluginThatPerformsDependencyResolutionInBuildSrc()
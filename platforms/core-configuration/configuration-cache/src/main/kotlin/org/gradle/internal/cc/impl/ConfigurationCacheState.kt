@@ -94,8 +94,12 @@ import java.io.OutputStream
 typealias BuildTreeWorkGraphBuilder = BuildTreeWorkGraph.Builder.(BuildState) -> Unit
 
 
+/**
+ * @property encryptable whether the state is encrypted when encryption is enabled
+ * @property compressible whether the state is compressed when compression is enabled, which is only worth it for potentially large state
+ */
 internal
-enum class StateType(val encryptable: Boolean = false) {
+enum class StateType(val encryptable: Boolean = false, val compressible: Boolean = true) {
     /**
      * Contains the state for the entire build.
      */
@@ -131,13 +135,13 @@ enum class StateType(val encryptable: Boolean = false) {
     /**
      * The index file that points to all of these things
      */
-    Entry(false),
+    Entry(false, false),
 
     /**
      * The per cache-key file that lists all known configuration cache entries
      * for that key.
      */
-    Candidates(false)
+    Candidates(false, false)
 }
 
 
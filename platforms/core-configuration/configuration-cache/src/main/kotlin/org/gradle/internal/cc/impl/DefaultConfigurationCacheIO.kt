@@ -16,6 +16,7 @@
 
 package org.gradle.internal.cc.impl
 
+import org.gradle.api.internal.cache.StringInterner
 import org.gradle.api.logging.LogLevel
 import org.gradle.cache.internal.streams.BlockAddress
 import org.gradle.cache.internal.streams.BlockAddressSerializer
@@ -29,6 +30,8 @@ import org.gradle.internal.cc.base.serialize.withGradleIsolate
 import org.gradle.internal.cc.impl.cacheentry.EntryDetails
 import org.gradle.internal.cc.impl.cacheentry.ModelKey
 import org.gradle.internal.cc.impl.initialization.ConfigurationCacheStartParameter
+import org.gradle.internal.cc.impl.io.compressingOutputStream
+import org.gradle.internal.cc.impl.io.decompressingInputStream
 import org.gradle.internal.cc.impl.io.safeWrap
 import org.gradle.internal.cc.impl.problems.ConfigurationCacheProblems
 import org.gradle.internal.cc.impl.serialize.Codecs
@@ -279,7 +282,7 @@ class DefaultConfigurationCacheIO internal constructor(
     private
     fun stringDecoderFor(stringsFile: ConfigurationCacheStateFile): StringDecoder =
         if (isUsingParallelStringDeduplicationStrategy(stringsFile))
-            inputStreamFor(stringsFile.stateType, stringsFile::inputStream).let(::ParallelStringDecoder)
+            inputStreamFor(stringsFile.stateType, stringsFile::inputStream).let { ParallelStringDecoder(it, service<StringInterner>()) }
         else
             InlineStringDecoder
 
@@ -423,13 +426,19 @@ class DefaultConfigurationCacheIO internal constructor(
             else KryoBackedDecoder(stream)
         }
 
+    /**
+     * Every state file starts with a compression format header, written inside the encryption layer,
+     * so that compressed and uncompressed state can be read regardless of the current [setting][ConfigurationCacheStartParameter.isCompressing].
+     */
     private
     fun outputStreamFor(stateType: StateType, outputStream: () -> OutputStream) =
-        maybeEncrypt(stateType, outputStream, encryptionService::outputStream)
+        safeWrap({ maybeEncrypt(stateType, outputStream, encryptionService::outputStream) }) { stream ->
+            compressingOutputStream(stream, stateType.compressible && startParameter.isCompressing)
+        }
 
     private
     fun inputStreamFor(stateType: StateType, inputStream: () -> InputStream) =
-        maybeEncrypt(stateType, inputStream, encryptionService::inputStream)
+        safeWrap({ maybeEncrypt(stateType, inputStream, encryptionService::inputStream) }, ::decompressingInputStream)
 
     private
     fun <I : Closeable, O : I> maybeEncrypt(stateType: StateType, inner: () -> I, outer: (I) -> O): I =
@@ -38,6 +38,10 @@ import org.gradle.internal.util.NumberUtil.ordinal
 import org.gradle.util.Path
 import java.io.File
 import java.net.URI
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Future
+import java.util.concurrent.atomic.AtomicInteger
 import java.util.function.Consumer
 
 
@@ -45,6 +49,14 @@ internal
 typealias InvalidationReason = StructuredMessage
 
 
+/**
+ * The maximum number of file system inputs that are checked together.
+ * Bounding the batch allows the check to stop shortly after the first out-of-date input.
+ */
+private
+const val MAX_FILE_SYSTEM_CHECK_BATCH_SIZE = 512
+
+
 internal
 class ConfigurationCacheFingerprintChecker(private val host: Host) {
 
@@ -68,15 +80,29 @@ class ConfigurationCacheFingerprintChecker(private val host: Host) {
         fun instantiateValueSourceOf(obtainedValue: ObtainedValue): ValueSource<Any, ValueSourceParameters>
         fun isRemoteScriptUpToDate(uri: URI): Boolean
         fun hasValidBuildSrc(candidateBuildSrc: File): Boolean
+
+        /**
+         * The executor used to check file system inputs concurrently, or `null` if they should be checked sequentially.
+         */
+        val fileSystemCheckExecutor: ExecutorService?
     }
 
     suspend fun ReadContext.checkBuildScopedFingerprint(): InvalidationReason? {
         // TODO: log some debug info
+        val fileSystemChecks = host.fileSystemCheckExecutor?.let { FileSystemCheckBatch(it) }
         while (true) {
             when (val input = read()) {
                 null -> break
                 is ConfigurationCacheFingerprint -> {
                     // An input that is not specific to a project. If it is out-of-date, then invalidate the whole cache entry and skip any further checks
+                    if (fileSystemChecks != null && isFileSystemInput(input)) {
+                        if (fileSystemChecks.addIsFull(input)) {
+                            fileSystemChecks.checkPending()?.let { return it }
+                        }
+                        continue
+                    }
+                    // Inputs are reported in the order they were recorded, so check any pending file system inputs first
+                    fileSystemChecks?.checkPending()?.let { return it }
                     val reason = check(input)
                     if (reason != null) {
                         return reason
@@ -86,7 +112,85 @@ class ConfigurationCacheFingerprintChecker(private val host: Host) {
                 else -> error("Unexpected configuration cache fingerprint: $input")
             }
         }
-        return null
+        return fileSystemChecks?.checkPending()
+    }
+
+    private
+    fun isFileSystemInput(input: ConfigurationCacheFingerprint) =
+        input is ConfigurationCacheFingerprint.InputFile ||
+            input is ConfigurationCacheFingerprint.DirectoryChildren ||
+            input is ConfigurationCacheFingerprint.InputFileSystemEntry
+
+    /**
+     * Collects file system inputs and checks them concurrently, in bounded batches.
+     *
+     * Inputs are grouped by their parent directory, so that inputs which share a file system snapshot are checked together.
+     * The reported invalidation is always the first one in recording order, and checking stops as soon as no earlier input is left to check.
+     */
+    private
+    inner class FileSystemCheckBatch(private val executor: ExecutorService) {
+
+        private
+        val pending = ArrayList<ConfigurationCacheFingerprint>(MAX_FILE_SYSTEM_CHECK_BATCH_SIZE)
+
+        /**
+         * Adds the input to the batch and returns `true` if the batch is full and should be checked.
+         */
+        fun addIsFull(input: ConfigurationCacheFingerprint): Boolean {
+            pending.add(input)
+            return pending.size >= MAX_FILE_SYSTEM_CHECK_BATCH_SIZE
+        }
+
+        fun checkPending(): InvalidationReason? {
+            if (pending.isEmpty()) {
+                return null
+            }
+            val inputs = pending.toList()
+            pending.clear()
+            if (inputs.size == 1) {
+                return check(inputs[0])
+            }
+
+            val reasons = arrayOfNulls<InvalidationReason>(inputs.size)
+            val firstInvalidIndex = AtomicInteger(Int.MAX_VALUE)
+            val groups = inputs.indices.groupBy { parentDirectoryOf(inputs[it]) }.values
+            val results = groups.map { indices ->
+                executor.submit(Runnable {
+                    for (index in indices) {
+                        if (index > firstInvalidIndex.get()) {
+                            // An earlier input is already known to be out-of-date
+                            break
+                        }
+                        val reason = check(inputs[index])
+                        if (reason != null) {
+                            reasons[index] = reason
+                            firstInvalidIndex.accumulateAndGet(index) { current, candidate -> minOf(current, candidate) }
+                            break
+                        }
+                    }
+                })
+            }
+            results.forEach(::await)
+            return firstInvalidIndex.get().takeIf { it != Int.MAX_VALUE }?.let { reasons[it] }
+        }
+
+        private
+        fun parentDirectoryOf(input: ConfigurationCacheFingerprint): File? =
+            when (input) {
+                is ConfigurationCacheFingerprint.InputFile -> input.file.parentFile
+                is ConfigurationCacheFingerprint.DirectoryChildren -> input.file
+                is ConfigurationCacheFingerprint.InputFileSystemEntry -> input.file.parentFile
+                else -> null
+            }
+
+        private
+        fun await(result: Future<*>) {
+            try {
+                result.get()
+            } catch (e: ExecutionException) {
+                throw e.cause ?: e
+            }
+        }
     }
 
     @Suppress("NestedBlockDepth")
@@ -35,6 +35,7 @@ import org.gradle.internal.cc.impl.InputTrackingState
 import org.gradle.internal.cc.impl.initialization.ConfigurationCacheStartParameter
 import org.gradle.internal.cc.impl.problems.ConfigurationCacheProblems
 import org.gradle.internal.cc.impl.services.RemoteScriptUpToDateChecker
+import org.gradle.internal.concurrent.ExecutorFactory
 import org.gradle.internal.concurrent.Stoppable
 import org.gradle.internal.configuration.problems.CommonReport
 import org.gradle.internal.configuration.problems.DocumentationSection
@@ -70,6 +71,7 @@ import org.gradle.util.internal.GFileUtils
 import java.io.File
 import java.net.URI
 import java.nio.file.Files
+import java.util.concurrent.ExecutorService
 import java.util.function.Supplier
 
 
@@ -101,6 +103,7 @@ class ConfigurationCacheFingerprintController internal constructor(
     private val encryptionService: EncryptionService,
     private val configurationTimeBarrier: ConfigurationTimeBarrier,
     private val buildStateRegistry: BuildStateRegistry,
+    private val executorFactory: ExecutorFactory,
 ) : Stoppable, ProjectScopedScriptResolution {
 
     interface Host {
@@ -346,8 +349,19 @@ class ConfigurationCacheFingerprintController internal constructor(
         return writingState.runCollectingFingerprintForProject(project, action)
     }
 
+    private
+    val lazyFileSystemCheckExecutor = lazy {
+        executorFactory.create("Configuration cache fingerprint check", Runtime.getRuntime().availableProcessors())
+    }
+
     override fun stop() {
-        writingState = writingState.dispose()
+        try {
+            writingState = writingState.dispose()
+        } finally {
+            if (lazyFileSystemCheckExecutor.isInitialized()) {
+                lazyFileSystemCheckExecutor.value.stop()
+            }
+        }
     }
 
     suspend fun ReadContext.checkBuildScopedFingerprint(host: Host) =
@@ -522,6 +536,9 @@ class ConfigurationCacheFingerprintController internal constructor(
         override fun hasValidBuildSrc(candidateBuildSrc: File): Boolean {
             return BuildSrcDetector.isValidBuildSrcBuild(candidateBuildSrc)
         }
+
+        override val fileSystemCheckExecutor: ExecutorService?
+            get() = if (startParameter.isParallelFingerprintCheck) lazyFileSystemCheckExecutor.value else null
     }
 
     private
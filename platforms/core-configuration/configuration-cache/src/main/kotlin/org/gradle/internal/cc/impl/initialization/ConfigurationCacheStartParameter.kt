@@ -104,6 +104,14 @@ class ConfigurationCacheStartParameter internal constructor(
      */
     val isSharingObjects: Boolean = options.getInternalFlag("org.gradle.configuration-cache.internal.share-objects", true)
 
+    /**
+     * Whether configuration cache state files should be compressed
+     * in order to save space on disk and to read less data on a cache hit.
+     *
+     * The default is `false`.
+     */
+    val isCompressing: Boolean = options.getInternalFlag("org.gradle.configuration-cache.internal.compress", false)
+
     /**
      * Whether configuration cache storing/loading should be done in parallel.
      *
@@ -133,6 +141,13 @@ class ConfigurationCacheStartParameter internal constructor(
      */
     val isParallelLoad = options.getInternalFlag("org.gradle.configuration-cache.internal.parallel-load", true)
 
+    /**
+     * Whether file system inputs should be checked in parallel when looking for a reusable entry.
+     *
+     * The default is `true`.
+     */
+    val isParallelFingerprintCheck = options.getInternalFlag("org.gradle.configuration-cache.internal.parallel-fingerprint-check", true)
+
     val gradleProperties: Map<String, Any?>
         get() = startParameter.projectProperties
             .filterKeys { !Workarounds.isIgnoredStartParameterProperty(it) }
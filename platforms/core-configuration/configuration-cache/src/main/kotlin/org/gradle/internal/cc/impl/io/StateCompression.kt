@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl.io
+
+import java.io.EOFException
+import java.io.IOException
+import java.io.InputStream
+import java.io.OutputStream
+import java.util.zip.Deflater
+import java.util.zip.DeflaterOutputStream
+import java.util.zip.Inflater
+import java.util.zip.InflaterInputStream
+
+
+private
+const val UNCOMPRESSED: Int = 0
+
+
+private
+const val DEFLATE: Int = 1
+
+
+private
+const val BUFFER_SIZE = 64 * 1024
+
+
+/**
+ * Writes the compression format header to the given stream and, if requested, returns a stream
+ * that compresses everything written to it.
+ *
+ * Compression favours speed over size, as state files are read on every cache hit.
+ */
+internal
+fun compressingOutputStream(output: OutputStream, compress: Boolean): OutputStream =
+    if (compress) {
+        output.write(DEFLATE)
+        val deflater = Deflater(Deflater.BEST_SPEED)
+        object : DeflaterOutputStream(output, deflater, BUFFER_SIZE) {
+            override fun close() {
+                try {
+                    super.close()
+                } finally {
+                    deflater.end()
+                }
+            }
+        }
+    } else {
+        output.write(UNCOMPRESSED)
+        output
+    }
+
+
+/**
+ * Reads the compression format header written by [compressingOutputStream] and returns a stream
+ * that yields the original content.
+ */
+internal
+fun decompressingInputStream(input: InputStream): InputStream =
+    when (val format = input.read()) {
+        UNCOMPRESSED -> input
+        DEFLATE -> {
+            val inflater = Inflater()
+            object : InflaterInputStream(input, inflater, BUFFER_SIZE) {
+                override fun close() {
+                    try {
+                        super.close()
+                    } finally {
+                        inflater.end()
+                    }
+                }
+            }
+        }
+        -1 -> throw EOFException("Unexpected end of configuration cache state file.")
+        else -> throw IOException("Unsupported configuration cache state file compression format: $format.")
+    }
@@ -17,6 +17,7 @@
 package org.gradle.internal.cc.impl.serialize
 
 import com.esotericsoftware.kryo.io.Input
+import com.google.common.collect.Interner
 import org.gradle.internal.serialize.Decoder
 import org.gradle.internal.serialize.graph.StringDecoder
 import java.io.InputStream
@@ -29,9 +30,12 @@ import kotlin.concurrent.thread
 
 /**
  * Decodes deduplicated strings from a given stream produced by [ParallelStringEncoder].
+ *
+ * Decoded strings go through the given [interner], so that strings already resident in the daemon,
+ * for instance because they were loaded from another configuration cache entry, are shared instead of duplicated.
  */
 internal
-class ParallelStringDecoder(stream: InputStream) : StringDecoder, AutoCloseable {
+class ParallelStringDecoder(stream: InputStream, private val interner: Interner<String>) : StringDecoder, AutoCloseable {
 
     private
     class FutureString {
@@ -65,7 +69,7 @@ class ParallelStringDecoder(stream: InputStream) : StringDecoder, AutoCloseable
                 val id = input.readVarInt(true)
                 if (id == 0) break
 
-                val string = input.readString()
+                val string = interner.intern(input.readString())
                 strings.compute(id) { _, value ->
                     when (value) {
                         is FutureString -> value.complete(string)
@@ -46,12 +46,14 @@ import org.gradle.internal.serialize.graph.WriteIdentities
 import org.gradle.internal.serialize.graph.WriteIsolate
 import org.gradle.internal.serialize.graph.runReadOperation
 import org.gradle.internal.serialize.graph.runWriteOperation
+import org.gradle.util.Path
 import org.hamcrest.CoreMatchers.equalTo
 import org.hamcrest.MatcherAssert.assertThat
 import org.junit.Test
 import java.io.File
 import java.io.InputStream
 import java.io.OutputStream
+import java.util.concurrent.Executors
 
 
 class ConfigurationCacheFingerprintCheckerTest {
@@ -260,6 +262,76 @@ class ConfigurationCacheFingerprintCheckerTest {
         )
     }
 
+    @Test
+    fun `first changed file system input is reported when checking concurrently`() {
+        val executor = Executors.newFixedThreadPool(4)
+        try {
+            val files = (0 until 100).map { File("dir$it/input.txt") }
+            val changed = setOf(files[42], files[43], files[99])
+            val host = mock<ConfigurationCacheFingerprintChecker.Host> {
+                on { fileSystemCheckExecutor } doReturn executor
+                on { hashCodeAndTypeOf(any()) }.then { invocation ->
+                    val hash = if (invocation.getArgument<File>(0) in changed) 2 else 1
+                    TestHashCodes.hashCodeFrom(hash) to FileType.RegularFile
+                }
+                on { displayNameOf(any()) }.then { invocation ->
+                    invocation.getArgument<File>(0).path
+                }
+            }
+
+            val readContext = recordWritingOf {
+                files.forEach { file ->
+                    write(ConfigurationCacheFingerprint.InputFile(file, TestHashCodes.hashCodeFrom(1)))
+                }
+                write(null)
+            }
+
+            val reason = readContext.runReadOperation {
+                ConfigurationCacheFingerprintChecker(host).run {
+                    checkBuildScopedFingerprint()
+                }
+            }
+            assertThat(reason?.toString(), equalTo("file '${files[42].path}' has changed"))
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun `all invalidated projects are reported`() {
+        assertThat(
+            invalidatedProjects(),
+            equalTo(setOf(Path.path(":a"), Path.path(":b")))
+        )
+    }
+
+    private
+    fun invalidatedProjects(): Set<Path>? {
+        val fileA = File("a/build.gradle.kts")
+        val fileB = File("b/build.gradle.kts")
+        val host = mock<ConfigurationCacheFingerprintChecker.Host> {
+            on { hashCodeAndTypeOf(any()) } doReturn (TestHashCodes.hashCodeFrom(2) to FileType.RegularFile)
+            on { displayNameOf(any()) }.then { invocation ->
+                invocation.getArgument<File>(0).path
+            }
+        }
+
+        val readContext = recordWritingOf {
+            write(ProjectSpecificFingerprint.ProjectIdentity(Path.path(":a"), Path.ROOT, Path.path(":a")))
+            write(ProjectSpecificFingerprint.ProjectFingerprint(Path.path(":a"), ConfigurationCacheFingerprint.InputFile(fileA, TestHashCodes.hashCodeFrom(1))))
+            write(ProjectSpecificFingerprint.ProjectIdentity(Path.path(":b"), Path.ROOT, Path.path(":b")))
+            write(ProjectSpecificFingerprint.ProjectFingerprint(Path.path(":b"), ConfigurationCacheFingerprint.InputFile(fileB, TestHashCodes.hashCodeFrom(1))))
+            write(null)
+        }
+
+        val invalidProjects = readContext.runReadOperation {
+            ConfigurationCacheFingerprintChecker(host).run {
+                checkProjectScopedFingerprint()
+            }
+        }
+        return invalidProjects?.all?.keys
+    }
+
     private
     fun invalidationReasonForInitScriptsChange(
         from: Iterable<Pair<File, HashCode>>,
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl.io
+
+import org.hamcrest.CoreMatchers.equalTo
+import org.hamcrest.MatcherAssert.assertThat
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.IOException
+
+
+class StateCompressionTest {
+
+    private
+    val content = "configuration cache state ".repeat(1000).toByteArray()
+
+    @Test
+    fun `reads compressed state`() {
+        val stored = store(compress = true)
+
+        assertThat(stored.size < content.size, equalTo(true))
+        assertThat(load(stored), equalTo(content))
+    }
+
+    @Test
+    fun `reads uncompressed state`() {
+        val stored = store(compress = false)
+
+        assertThat(stored.size, equalTo(content.size + 1))
+        assertThat(load(stored), equalTo(content))
+    }
+
+    @Test
+    fun `rejects unknown compression format`() {
+        assertThrows(IOException::class.java) {
+            load(byteArrayOf(42))
+        }
+    }
+
+    private
+    fun store(compress: Boolean): ByteArray =
+        ByteArrayOutputStream().also { output ->
+            compressingOutputStream(output, compress).use { it.write(content) }
+        }.toByteArray()
+
+    private
+    fun load(stored: ByteArray): ByteArray =
+        decompressingInputStream(ByteArrayInputStream(stored)).use { it.readBytes() }
+}
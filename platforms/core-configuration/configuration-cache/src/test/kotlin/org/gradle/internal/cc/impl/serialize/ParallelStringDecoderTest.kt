@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl.serialize
+
+import org.gradle.api.internal.cache.StringInterner
+import org.gradle.internal.serialize.kryo.KryoBackedDecoder
+import org.gradle.internal.serialize.kryo.KryoBackedEncoder
+import org.hamcrest.CoreMatchers.equalTo
+import org.hamcrest.CoreMatchers.nullValue
+import org.hamcrest.CoreMatchers.sameInstance
+import org.hamcrest.MatcherAssert.assertThat
+import org.junit.Test
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+
+
+class ParallelStringDecoderTest {
+
+    private
+    val interner = StringInterner()
+
+    @Test
+    fun `decodes strings written by the encoder`() {
+        val segment = encode("first", null, "second", "first")
+
+        val strings = decode(segment)
+
+        assertThat(strings, equalTo(listOf("first", null, "second", "first")))
+    }
+
+    @Test
+    fun `equal strings decoded from separate segments are the same instance`() {
+        val first = decode(encode("org.gradle.api.DefaultTask", "other"))
+        val second = decode(encode("unrelated", "org.gradle.api.DefaultTask"))
+
+        assertThat(first[0], equalTo("org.gradle.api.DefaultTask"))
+        assertThat(second[1], sameInstance(first[0]))
+        assertThat(second[1], sameInstance(interner.intern(String("org.gradle.api.DefaultTask".toCharArray()))))
+    }
+
+    @Test
+    fun `decodes missing string as null`() {
+        assertThat(decode(encode(null)).single(), nullValue())
+    }
+
+    private
+    class Segment(val strings: ByteArray, val references: ByteArray, val count: Int)
+
+    private
+    fun encode(vararg values: String?): Segment {
+        val strings = ByteArrayOutputStream()
+        val references = ByteArrayOutputStream()
+        val stringEncoder = ParallelStringEncoder(strings)
+        KryoBackedEncoder(references).use { encoder ->
+            for (value in values) {
+                stringEncoder.writeNullableString(encoder, value)
+            }
+        }
+        stringEncoder.close()
+        return Segment(strings.toByteArray(), references.toByteArray(), values.size)
+    }
+
+    private
+    fun decode(segment: Segment): List<String?> =
+        ParallelStringDecoder(ByteArrayInputStream(segment.strings), interner).use { stringDecoder ->
+            KryoBackedDecoder(ByteArrayInputStream(segment.references)).use { decoder ->
+                List(segment.count) { stringDecoder.readNullableString(decoder) }
+            }
+        }
+}
@@ -204,9 +204,12 @@ class WorkNodeCodec(
         idForNode: IdForNode
     ): (ActionNode) -> List<Node>? {
         val groupedNodes = nodes.groupBy(NodeOwner::of)
-        writeCollection(groupedNodes.keys) { nodeOwner ->
+        // The index lists every per-owner segment together with its node count,
+        // so the reader can schedule the largest segments first.
+        writeCollection(groupedNodes.entries) { (nodeOwner, groupNodes) ->
             val groupPath = nodeOwner.path()
             writeString(groupPath.path)
+            writeSmallInt(groupNodes.size)
         }
 
         val batchedActionNodeSuccessors =
@@ -241,12 +244,16 @@ class WorkNodeCodec(
     private
     fun ReadContext.readNodes(nodeIdCount: Int): NodeForId {
         val batchedGroupNodes = AtomicReference<PersistentList<List<NodeWithId>>>(PersistentList.of())
-        val groupPaths = readCollectionInto<Path, MutableList<Path>>(::ArrayList) {
-            Path.path(readString())
+        val segments = readCollectionInto<SegmentIndexEntry, MutableList<SegmentIndexEntry>>(::ArrayList) {
+            SegmentIndexEntry(Path.path(readString()), readSmallInt())
+        }
+        if (parallelLoad) {
+            // Start with the largest segments so that a few big projects do not end up decoded last
+            segments.sortByDescending { it.nodeCount }
         }
 
         runBuildOperations(parallel = parallelLoad, message = "reading task graph") {
-            groupPaths.map { groupPath ->
+            segments.map { (groupPath, _) ->
                 OperationInfo(displayName = "Loading configuration for $groupPath", context = groupPath) {
                     contextSource.readContextFor(this@readNodes, groupPath).readWith(Unit) {
                         val nodesInGroup = readGroupedNodes()
@@ -294,6 +301,12 @@ class WorkNodeCodec(
         return this
     }
 
+    private
+    data class SegmentIndexEntry(
+        val path: Path,
+        val nodeCount: Int
+    )
+
     private
     data class NodeWithId(
         val node: Node,
@@ -73,6 +73,7 @@ import org.jetbrains.org.objectweb.asm.signature.SignatureReader
 import org.jetbrains.org.objectweb.asm.signature.SignatureVisitor
 import java.io.Closeable
 import java.io.File
+import java.util.concurrent.ConcurrentHashMap
 import javax.inject.Inject
 
 
@@ -86,6 +87,13 @@ class ProjectAccessorsClassPathGenerator @Inject internal constructor(
     private val asyncIO: AsyncIOScopeFactory,
 ) {
 
+    /**
+     * Projects that apply the same plugins usually have identical schemas, so share their accessors
+     * without asking the execution engine again.
+     */
+    private
+    val accessorsClassPathBySchema = ConcurrentHashMap<AccessorsKey, AccessorsClassPath>()
+
     fun projectAccessorsClassPath(scriptTarget: ExtensionAware, classPath: ClassPath): AccessorsClassPath =
         scriptTarget.getOrCreateProperty("gradleKotlinDsl.accessorsClassPath") {
             buildAccessorsClassPathFor(scriptTarget, classPath)
@@ -99,23 +107,34 @@ class ProjectAccessorsClassPathGenerator @Inject internal constructor(
             ?.let { classLoaderScope ->
                 configuredProjectSchemaOf(scriptTarget, classLoaderScope)
             }?.let { scriptTargetSchema ->
-                val work = GenerateProjectAccessors(
-                    scriptTarget,
-                    scriptTargetSchema,
-                    classPath,
-                    fileCollectionFactory,
-                    inputFingerprinter,
-                    workspaceProvider,
-                    asyncIO,
-                    isDclEnabledForScriptTarget(scriptTarget),
-                )
-                executionEngine.createRequest(work)
-                    .execute()
-                    .getOutputAs(AccessorsClassPath::class.java)
-                    .get()
+                val key = AccessorsKey(hashCodeFor(scriptTargetSchema), classPath, isDclEnabledForScriptTarget(scriptTarget))
+                accessorsClassPathBySchema[key]
+                    ?: generateAccessorsClassPathFor(scriptTarget, scriptTargetSchema, key).also {
+                        accessorsClassPathBySchema.putIfAbsent(key, it)
+                    }
             }
 
 
+    private
+    fun generateAccessorsClassPathFor(scriptTarget: Any, scriptTargetSchema: TypedProjectSchema, key: AccessorsKey): AccessorsClassPath {
+        val work = GenerateProjectAccessors(
+            scriptTarget,
+            scriptTargetSchema,
+            key.schemaHash,
+            key.classPath,
+            fileCollectionFactory,
+            inputFingerprinter,
+            workspaceProvider,
+            asyncIO,
+            key.isDclEnabled,
+        )
+        return executionEngine.createRequest(work)
+            .execute()
+            .getOutputAs(AccessorsClassPath::class.java)
+            .get()
+    }
+
+
     private
     fun configuredProjectSchemaOf(scriptTarget: Any, classLoaderScope: ClassLoaderScope): TypedProjectSchema? {
         require(classLoaderScope.isLocked) {
@@ -123,6 +142,13 @@ class ProjectAccessorsClassPathGenerator @Inject internal constructor(
         }
         return projectSchemaProvider.schemaFor(scriptTarget, classLoaderScope)?.takeIf { it.isNotEmpty() }
     }
+
+    private
+    data class AccessorsKey(
+        val schemaHash: HashCode,
+        val classPath: ClassPath,
+        val isDclEnabled: Boolean
+    )
 }
 
 fun isDclEnabledForScriptTarget(target: Any): Boolean {
@@ -140,6 +166,7 @@ internal
 class GenerateProjectAccessors(
     private val scriptTarget: Any,
     private val scriptTargetSchema: TypedProjectSchema,
+    private val scriptTargetSchemaHash: HashCode,
     private val classPath: ClassPath,
     private val fileCollectionFactory: FileCollectionFactory,
     private val inputFingerprinter: InputFingerprinter,
@@ -194,7 +221,7 @@ class GenerateProjectAccessors(
     override fun getDisplayName(): String = "Kotlin DSL accessors for $scriptTarget"
 
     override fun visitIdentityInputs(visitor: InputVisitor) {
-        visitor.visitInputProperty(TARGET_SCHEMA_INPUT_PROPERTY) { hashCodeFor(scriptTargetSchema) }
+        visitor.visitInputProperty(TARGET_SCHEMA_INPUT_PROPERTY) { scriptTargetSchemaHash }
         visitor.visitInputProperty(DCL_ENABLED_INPUT_PROPERTY) { isDclEnabled }
         visitor.visitInputFileProperty(
             CLASSPATH_INPUT_PROPERTY,
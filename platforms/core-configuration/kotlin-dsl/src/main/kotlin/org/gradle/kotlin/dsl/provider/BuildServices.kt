@@ -162,8 +162,8 @@ object BuildServices : ServiceRegistrationProvider {
         )
 
     @Provides
-    fun createKotlinCompilerContextDisposer(listenerManager: ListenerManager) =
-        KotlinCompilerContextDisposer(listenerManager)
+    fun createKotlinCompilerContextDisposer(listenerManager: ListenerManager, internalOptions: InternalOptions) =
+        KotlinCompilerContextDisposer(listenerManager, internalOptions)
 
     private
     val isKotlinScriptCompilationAvoidanceEnabled: Boolean
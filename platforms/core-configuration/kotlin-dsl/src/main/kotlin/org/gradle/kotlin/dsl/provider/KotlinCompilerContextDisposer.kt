@@ -16,24 +16,47 @@
 
 package org.gradle.kotlin.dsl.provider
 
+import org.gradle.BuildResult
+import org.gradle.api.internal.GradleInternal
 import org.gradle.api.invocation.Gradle
 import org.gradle.internal.InternalBuildAdapter
+import org.gradle.internal.buildoption.InternalFlag
+import org.gradle.internal.buildoption.InternalOptions
 import org.gradle.internal.concurrent.Stoppable
 import org.gradle.internal.event.ListenerManager
 import org.gradle.internal.service.scopes.Scope
 import org.gradle.internal.service.scopes.ServiceScope
 import org.gradle.kotlin.dsl.support.disposeKotlinCompilerContext
+import java.lang.management.ManagementFactory
 
 
 /**
  * Disposes Kotlin compiler environment once all scripts are compiled.
+ *
+ * Builds that are configured before the root build, such as `buildSrc` and included plugin builds,
+ * keep the environment for the scripts of the root build. Scripts that become stale after a change to
+ * a convention plugin are then compiled against an environment that is already set up.
+ * Builds configured after the root build release the environment when the build finishes.
+ *
+ * With [RETAIN_ENVIRONMENT], the environment is kept in the daemon for the next build,
+ * unless the heap in use exceeds [RETAINED_ENVIRONMENT_HEAP_BUDGET] of the maximum heap size.
  */
 @ServiceScope(Scope.Build::class)
 internal
 class KotlinCompilerContextDisposer(
-    private val listenerManager: ListenerManager
+    private val listenerManager: ListenerManager,
+    internalOptions: InternalOptions
 ) : InternalBuildAdapter(), Stoppable {
 
+    companion object {
+        val RETAIN_ENVIRONMENT: InternalFlag = InternalFlag("org.gradle.internal.kotlin-script-compiler-environment-retained")
+
+        const val RETAINED_ENVIRONMENT_HEAP_BUDGET = 0.5
+    }
+
+    private
+    val retainEnvironment = internalOptions.getOption(RETAIN_ENVIRONMENT).get()
+
     init {
         listenerManager.addListener(this)
     }
@@ -43,6 +66,25 @@ class KotlinCompilerContextDisposer(
     }
 
     override fun projectsEvaluated(gradle: Gradle) {
-        disposeKotlinCompilerContext()
+        if ((gradle as GradleInternal).isRootBuild) {
+            maybeDispose()
+        }
+    }
+
+    override fun buildFinished(result: BuildResult) {
+        maybeDispose()
+    }
+
+    private
+    fun maybeDispose() {
+        if (!retainEnvironment || isOverHeapBudget()) {
+            disposeKotlinCompilerContext()
+        }
+    }
+
+    private
+    fun isOverHeapBudget(): Boolean {
+        val heap = ManagementFactory.getMemoryMXBean().heapMemoryUsage
+        return heap.max > 0 && heap.used > heap.max * RETAINED_ENVIRONMENT_HEAP_BUDGET
     }
 }
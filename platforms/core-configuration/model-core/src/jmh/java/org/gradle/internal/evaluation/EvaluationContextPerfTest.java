@@ -18,6 +18,7 @@
 import org.gradle.api.internal.provider.DefaultProperty;
 import org.gradle.api.internal.provider.DefaultProvider;
 import org.gradle.api.internal.provider.PropertyHost;
+import org.gradle.api.internal.provider.ProviderInternal;
 import org.gradle.api.internal.provider.TransformBackedProvider;
 import org.gradle.api.provider.Property;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -40,15 +41,28 @@ public class EvaluationContextPerfTest {
     private String value = "value";
 
     private Property<String> property;
+    private Property<String> chainedProperty;
 
     @Setup
     public void setUp() {
         property = new DefaultProperty<>(host, String.class);
         property.set(new TransformBackedProvider<>(String.class, new DefaultProvider<>(() -> value), v -> v + v));
+
+        ProviderInternal<String> chain = new DefaultProvider<>(() -> value);
+        for (int i = 0; i < 10; i++) {
+            chain = new TransformBackedProvider<>(String.class, chain, v -> v);
+        }
+        chainedProperty = new DefaultProperty<>(host, String.class);
+        chainedProperty.set(chain);
     }
 
     @Benchmark
     public void getPropertyValue(Blackhole bh) {
         bh.consume(property.get());
     }
+
+    @Benchmark
+    public void getChainedPropertyValue(Blackhole bh) {
+        bh.consume(chainedProperty.get());
+    }
 }
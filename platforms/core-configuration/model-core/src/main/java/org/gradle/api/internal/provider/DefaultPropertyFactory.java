@@ -16,8 +16,17 @@
 
 package org.gradle.api.internal.provider;
 
-public class DefaultPropertyFactory implements PropertyFactory {
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.List;
+
+public class DefaultPropertyFactory implements PropertyFactory, Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultPropertyFactory.class);
+
     private final PropertyHost propertyHost;
+    private final MemoizingProvider.Statistics memoizationStatistics = new MemoizingProvider.Statistics();
 
     public DefaultPropertyFactory(PropertyHost propertyHost) {
         this.propertyHost = propertyHost;
@@ -42,4 +51,24 @@ public <T> DefaultSetProperty<T> setProperty(Class<T> elementType) {
     public <V, K> DefaultMapProperty<K, V> mapProperty(Class<K> keyType, Class<V> valueType) {
         return new DefaultMapProperty<>(propertyHost, keyType, valueType);
     }
+
+    @Override
+    public <T> ProviderInternal<T> memoize(ProviderInternal<T> provider, List<? extends PropertyInternal<?>> sources) {
+        return new MemoizingProvider<>(provider, sources, memoizationStatistics);
+    }
+
+    /**
+     * Returns the query counts of all the memoizing providers created by this factory.
+     */
+    public MemoizingProvider.Statistics getMemoizationStatistics() {
+        return memoizationStatistics;
+    }
+
+    @Override
+    public void close() {
+        long misses = memoizationStatistics.getMissCount();
+        if (misses > 0) {
+            LOGGER.debug("Memoized providers answered {} queries from a remembered value and calculated {}.", memoizationStatistics.getHitCount(), misses);
+        }
+    }
 }
@@ -75,7 +75,12 @@ protected Value<OUT> mapValue(EvaluationScopeContext context, Value<? extends IN
     }
 
     @Override
-    protected void beforeRead(EvaluationScopeContext context) {}
+    protected Value<? extends OUT> calculateOwnValue(ValueConsumer consumer) {
+        // The transform does not use the value contents, so there is no need to check that they have been built
+        try (EvaluationScopeContext context = openScope()) {
+            return mapValue(context, provider.calculateValue(consumer));
+        }
+    }
 
     @Override
     protected String toStringNoReentrance() {
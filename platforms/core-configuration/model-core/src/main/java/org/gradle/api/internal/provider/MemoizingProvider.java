@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.provider;
+
+import com.google.common.collect.ImmutableList;
+import org.gradle.internal.evaluation.EvaluationScopeContext;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A provider that remembers the value of an expensive provider chain, such as a chain of {@link TransformBackedProvider} or {@link MergeProvider}, so that it is calculated once
+ * rather than each time the value is queried.</p>
+ *
+ * <p>This provider is opt-in, as it can only be used when the value of the chain is a function of the given source properties alone, that is, all transformers in the chain are pure.
+ * The value is remembered only once all the source properties have been finalized, as their values can no longer change. Until then, the value is calculated on each query.</p>
+ *
+ * <p>The number of queries answered from the remembered value and the number of calculations are tracked, to tell whether the memoization pays off.
+ * The {@link Statistics} can be shared by several providers, to report the totals for all of them.</p>
+ *
+ * <p>Use {@link PropertyFactory#memoize(ProviderInternal, List)} to opt in.</p>
+ */
+public class MemoizingProvider<T> extends AbstractMinimalProvider<T> {
+
+    private final ProviderInternal<T> provider;
+    private final List<PropertyInternal<?>> sources;
+    private final Statistics statistics;
+    @Nullable
+    private volatile Value<? extends T> value;
+
+    public MemoizingProvider(ProviderInternal<T> provider, List<? extends PropertyInternal<?>> sources) {
+        this(provider, sources, new Statistics());
+    }
+
+    public MemoizingProvider(ProviderInternal<T> provider, List<? extends PropertyInternal<?>> sources, Statistics statistics) {
+        this.provider = provider;
+        this.sources = ImmutableList.copyOf(sources);
+        this.statistics = statistics;
+    }
+
+    @Nullable
+    @Override
+    public Class<T> getType() {
+        return provider.getType();
+    }
+
+    @Override
+    public ValueProducer getProducer() {
+        try (EvaluationScopeContext ignored = openScope()) {
+            return provider.getProducer();
+        }
+    }
+
+    @Override
+    public ExecutionTimeValue<? extends T> calculateExecutionTimeValue() {
+        ExecutionTimeValue<? extends T> executionTimeValue;
+        try (EvaluationScopeContext ignored = openScope()) {
+            // Always ask the chain, so that changing values, changing content and the producing tasks are kept
+            executionTimeValue = provider.calculateExecutionTimeValue();
+        }
+        Value<? extends T> memoized = value;
+        if (memoized != null && executionTimeValue.hasFixedValue()) {
+            statistics.hits.increment();
+            return ExecutionTimeValue.value(memoized);
+        }
+        return executionTimeValue;
+    }
+
+    @Override
+    protected Value<? extends T> calculateOwnValue(ValueConsumer consumer) {
+        Value<? extends T> memoized = value;
+        if (memoized != null) {
+            statistics.hits.increment();
+            return memoized;
+        }
+        try (EvaluationScopeContext ignored = openScope()) {
+            statistics.misses.increment();
+            Value<? extends T> result = provider.calculateValue(consumer);
+            if (sourcesFinalized()) {
+                // Concurrent queries may all calculate the value, which is the same for all of them
+                value = result;
+            }
+            return result;
+        }
+    }
+
+    private boolean sourcesFinalized() {
+        for (PropertyInternal<?> source : sources) {
+            if (!source.isFinalized()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of queries answered with the remembered value.
+     */
+    public long getHitCount() {
+        return statistics.getHitCount();
+    }
+
+    /**
+     * Returns the number of queries for which the value was calculated.
+     */
+    public long getMissCount() {
+        return statistics.getMissCount();
+    }
+
+    @Override
+    protected String toStringNoReentrance() {
+        return "memoize(" + provider + ")";
+    }
+
+    /**
+     * Counts the queries of one or more memoizing providers. Safe to use from multiple threads.
+     */
+    public static class Statistics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        public long getHitCount() {
+            return hits.sum();
+        }
+
+        public long getMissCount() {
+            return misses.sum();
+        }
+    }
+}
@@ -19,6 +19,8 @@
 import org.gradle.internal.service.scopes.Scope;
 import org.gradle.internal.service.scopes.ServiceScope;
 
+import java.util.List;
+
 @ServiceScope({Scope.Global.class, Scope.Project.class})
 public interface PropertyFactory {
     <T> DefaultProperty<T> property(Class<T> type);
@@ -28,4 +30,12 @@ public interface PropertyFactory {
     <T> DefaultSetProperty<T> setProperty(Class<T> elementType);
 
     <V, K> DefaultMapProperty<K, V> mapProperty(Class<K> keyType, Class<V> valueType);
+
+    /**
+     * Returns a provider that remembers the value of the given provider once all the given source properties are finalized.
+     * The value of the given provider must be a pure function of the values of the source properties.
+     *
+     * @see MemoizingProvider
+     */
+    <T> ProviderInternal<T> memoize(ProviderInternal<T> provider, List<? extends PropertyInternal<?>> sources);
 }
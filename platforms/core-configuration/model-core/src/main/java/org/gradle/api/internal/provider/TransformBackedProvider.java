@@ -78,8 +78,25 @@ public ExecutionTimeValue<? extends OUT> calculateExecutionTimeValue() {
     protected Value<? extends OUT> calculateOwnValue(ValueConsumer consumer) {
         try (EvaluationScopeContext context = openScope()) {
             beforeRead(context);
-            Value<? extends IN> value = provider.calculateValue(consumer);
-            return mapValue(context, value);
+            return mapValue(context, calculateUpstreamValueAfterCheck(consumer));
+        }
+    }
+
+    /**
+     * Calculates the value of the upstream provider, once the content producers of this provider have been checked.
+     * An upstream mapped provider has the same producer as this provider, so its value is calculated without repeating the check,
+     * which would otherwise walk the rest of the chain again for every mapped provider in it.
+     */
+    private Value<? extends IN> calculateUpstreamValueAfterCheck(ValueConsumer consumer) {
+        if (provider instanceof TransformBackedProvider) {
+            return ((TransformBackedProvider<? extends IN, ?>) provider).calculateValueAfterCheck(consumer);
+        }
+        return provider.calculateValue(consumer);
+    }
+
+    private Value<? extends OUT> calculateValueAfterCheck(ValueConsumer consumer) {
+        try (EvaluationScopeContext context = openScope()) {
+            return mapValue(context, calculateUpstreamValueAfterCheck(consumer)).pushWhenMissing(getDeclaredDisplayName());
         }
     }
 
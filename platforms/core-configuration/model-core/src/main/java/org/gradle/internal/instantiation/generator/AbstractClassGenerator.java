@@ -139,6 +139,7 @@ abstract class AbstractClassGenerator implements ClassGenerator {
     private static final Object[] NO_PARAMS = new Object[0];
 
     private final Cache<Class<?>, GeneratedClassImpl> generatedClasses;
+    private final Cache<Class<?>, ClassDetails> classDetails;
     private final ImmutableSet<Class<? extends Annotation>> disabledAnnotations;
     private final ImmutableSet<Class<? extends Annotation>> enabledAnnotations;
     private final ImmutableMultimap<Class<? extends Annotation>, TypeToken<?>> allowedTypesForAnnotation;
@@ -148,9 +149,11 @@ protected AbstractClassGenerator(
         Collection<? extends InjectAnnotationHandler> allKnownAnnotations,
         Collection<Class<? extends Annotation>> enabledAnnotations,
         PropertyRoleAnnotationHandler roleHandler,
-        Cache<Class<?>, GeneratedClassImpl> generatedClassesCache
+        Cache<Class<?>, GeneratedClassImpl> generatedClassesCache,
+        Cache<Class<?>, ClassDetails> classDetailsCache
     ) {
         this.generatedClasses = generatedClassesCache;
+        this.classDetails = classDetailsCache;
         this.enabledAnnotations = ImmutableSet.copyOf(enabledAnnotations);
         ImmutableSet.Builder<Class<? extends Annotation>> builder = ImmutableSet.builder();
         ImmutableListMultimap.Builder<Class<? extends Annotation>, TypeToken<?>> allowedTypesBuilder = ImmutableListMultimap.builder();
@@ -287,7 +290,8 @@ private GeneratedClassImpl generateUnderLock(Class<?> type) {
     protected abstract InstantiationStrategy createForSerialization(Class<?> generatedType, Class<?> baseClass);
 
     private void inspectType(Class<?> type, List<ClassValidator> validators, List<ClassGenerationHandler> generationHandlers, UnclaimedPropertyHandler unclaimedHandler) {
-        ClassDetails classDetails = ClassInspector.inspect(type);
+        // The same type is usually generated by several generators, for example for injection only and for decoration
+        ClassDetails classDetails = this.classDetails.get(type, ClassInspector::inspect);
         ClassMetadata classMetaData = new ClassMetadata(type);
         assembleProperties(classDetails, classMetaData);
 
@@ -52,6 +52,7 @@
 import org.gradle.internal.metaobject.AbstractDynamicObject;
 import org.gradle.internal.metaobject.BeanDynamicObject;
 import org.gradle.internal.metaobject.DynamicObject;
+import org.gradle.internal.reflect.ClassDetails;
 import org.gradle.internal.service.ServiceLookup;
 import org.gradle.internal.service.ServiceRegistry;
 import org.gradle.internal.state.Managed;
@@ -123,6 +124,7 @@
 public class AsmBackedClassGenerator extends AbstractClassGenerator {
     private static final ThreadLocal<ObjectCreationDetails> SERVICES_FOR_NEXT_OBJECT = new ThreadLocal<>();
     private static final AtomicReference<Cache<Class<?>, GeneratedClassImpl>> GENERATED_CLASSES_CACHES = new AtomicReference<>();
+    private static final AtomicReference<Cache<Class<?>, ClassDetails>> CLASS_DETAILS_CACHE = new AtomicReference<>();
     private final boolean decorate;
     private final String suffix;
     private final int factoryId;
@@ -174,9 +176,10 @@ private AsmBackedClassGenerator(
         Collection<Class<? extends Annotation>> enabledInjectAnnotations,
         PropertyRoleAnnotationHandler roleHandler,
         Cache<Class<?>, GeneratedClassImpl> generatedClasses,
+        Cache<Class<?>, ClassDetails> classDetails,
         int factoryId
     ) {
-        super(allKnownAnnotations, enabledInjectAnnotations, roleHandler, generatedClasses);
+        super(allKnownAnnotations, enabledInjectAnnotations, roleHandler, generatedClasses, classDetails);
         this.decorate = decorate;
         this.suffix = suffix;
         this.factoryId = factoryId;
@@ -212,7 +215,7 @@ static ClassGenerator decorateAndInject(
             generatedClasses = cacheFactory.newClassMap();
         }
 
-        return new AsmBackedClassGenerator(true, suffix, allKnownAnnotations, enabledInjectAnnotations, roleHandler, generatedClasses, factoryId);
+        return new AsmBackedClassGenerator(true, suffix, allKnownAnnotations, enabledInjectAnnotations, roleHandler, generatedClasses, classDetailsCache(cacheFactory), factoryId);
     }
 
     /**
@@ -228,7 +231,17 @@ static ClassGenerator injectOnly(
         // TODO - the suffix should be a deterministic function of the known and enabled annotations
         // For now, just assign using a counter
         String suffix = ClassGeneratorSuffixRegistry.assign("$Inject");
-        return new AsmBackedClassGenerator(false, suffix, allKnownAnnotations, enabledInjectAnnotations, roleHandler, cacheFactory.newClassMap(), factoryId);
+        return new AsmBackedClassGenerator(false, suffix, allKnownAnnotations, enabledInjectAnnotations, roleHandler, cacheFactory.newClassMap(), classDetailsCache(cacheFactory), factoryId);
+    }
+
+    /**
+     * The inspected details of a class do not depend on the generator, so share them between all generators.
+     */
+    private static Cache<Class<?>, ClassDetails> classDetailsCache(ClassCacheFactory cacheFactory) {
+        if (CLASS_DETAILS_CACHE.get() == null) {
+            CLASS_DETAILS_CACHE.compareAndSet(null, cacheFactory.newClassCache());
+        }
+        return CLASS_DETAILS_CACHE.get();
     }
 
     @Override
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.provider
+
+import org.gradle.api.Task
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.TaskState
+import org.gradle.internal.Describables
+import org.gradle.internal.state.ModelObject
+import org.gradle.util.TestUtil
+import spock.lang.Specification
+
+class MemoizingProviderTest extends Specification {
+
+    def host = Mock(PropertyHost)
+    def source = new DefaultProperty<String>(host, String)
+
+    def "calculates the value on each query while the sources are not finalized"() {
+        given:
+        def calls = 0
+        def provider = new MemoizingProvider<String>(source.map { calls++; it + "!" }, [source])
+
+        when:
+        source.set("a")
+
+        then:
+        provider.get() == "a!"
+
+        when:
+        source.set("b")
+
+        then:
+        provider.get() == "b!"
+        calls == 2
+        provider.hitCount == 0
+        provider.missCount == 2
+    }
+
+    def "remembers the value once the sources are finalized"() {
+        given:
+        def calls = 0
+        def provider = new MemoizingProvider<String>(source.map { calls++; it + "!" }, [source])
+        source.set("a")
+        source.finalizeValue()
+
+        expect:
+        provider.get() == "a!"
+        provider.get() == "a!"
+        provider.getOrNull() == "a!"
+        calls == 1
+        provider.hitCount == 2
+        provider.missCount == 1
+    }
+
+    def "remembers a missing value once the sources are finalized"() {
+        given:
+        def provider = new MemoizingProvider<String>(source.map { it + "!" }, [source])
+        source.finalizeValue()
+
+        expect:
+        !provider.present
+        provider.getOrNull() == null
+        provider.hitCount == 1
+        provider.missCount == 1
+    }
+
+    def "uses the remembered value at execution time when the value of the chain is fixed"() {
+        given:
+        def provider = new MemoizingProvider<String>(source.map { it + "!" }, [source])
+        source.set("a")
+        source.finalizeValue()
+        def remembered = provider.get()
+
+        when:
+        def value = provider.calculateExecutionTimeValue()
+
+        then:
+        value.hasFixedValue()
+        value.fixedValue.is(remembered)
+        provider.hitCount == 1
+        provider.missCount == 1
+    }
+
+    def "keeps the changing execution time value of a chain mapped from a task output"() {
+        given:
+        def output = propertyWithProducer()
+        output.finalizeValue()
+        def provider = new MemoizingProvider<String>(output.map { it + "!" }, [output])
+
+        when:
+        def value = provider.calculateExecutionTimeValue()
+
+        then:
+        value.changingValue
+        !value.hasFixedValue()
+        provider.hitCount == 0
+        provider.missCount == 0
+    }
+
+    def "calculates the execution time value of the chain while the sources are not finalized"() {
+        given:
+        def calls = 0
+        def provider = new MemoizingProvider<String>(source.map { calls++; it + "!" }, [source])
+        source.set("a")
+
+        expect:
+        provider.calculateExecutionTimeValue().fixedValue == "a!"
+        provider.calculateExecutionTimeValue().fixedValue == "a!"
+        calls == 2
+        provider.hitCount == 0
+        provider.missCount == 0
+    }
+
+    def "providers created by the property factory share their statistics"() {
+        given:
+        def factory = new DefaultPropertyFactory(host)
+        def other = factory.property(String)
+        def first = factory.memoize(source.map { it + "!" }, [source])
+        def second = factory.memoize(other.map { it + "?" }, [other])
+        source.set("a")
+        source.finalizeValue()
+        other.set("b")
+        other.finalizeValue()
+
+        when:
+        first.get()
+        first.get()
+        second.get()
+
+        then:
+        first instanceof MemoizingProvider
+        factory.memoizationStatistics.hitCount == 1
+        factory.memoizationStatistics.missCount == 2
+    }
+
+    Property<String> propertyWithProducer() {
+        def task = Mock(Task)
+        def state = Mock(TaskState)
+        _ * task.toString() >> "<task>"
+        _ * task.state >> state
+        def owner = Stub(ModelObject)
+        _ * owner.taskThatOwnsThisObject >> task
+        def property = TestUtil.objectFactory().property(String)
+        property.attachOwner(owner, Describables.of("<prop>"))
+        property.attachProducer(owner)
+        property.set("12")
+        return property
+    }
+}
@@ -249,8 +249,11 @@ private TypeAnnotationMetadata createTypeAnnotationMetadata(Class<?> type) {
         ImmutableSortedSet<PropertyAnnotationMetadata> propertiesMetadata;
         ImmutableSortedSet<FunctionAnnotationMetadata> functionMetadata;
         if (!type.isSynthetic()) {
-            propertiesMetadata = extractPropertiesFrom(type, propertyMethodBuilders, validationContext);
-            functionMetadata = extractFunctionsFrom(type, functionMethodBuilders, validationContext);
+            Method[] methods = type.getDeclaredMethods();
+            // Make sure getters end up before the setters
+            Arrays.sort(methods, comparing(Method::getName));
+            propertiesMetadata = extractPropertiesFrom(type, methods, propertyMethodBuilders, validationContext);
+            functionMetadata = extractFunctionsFrom(methods, functionMethodBuilders, validationContext);
         } else {
             ImmutableSortedSet.Builder<PropertyAnnotationMetadata> propertiesMetadataBuilder = ImmutableSortedSet.naturalOrder();
             for (PropertyAnnotationMetadataBuilder propertyMetadataBuilder : propertyMethodBuilders.values()) {
@@ -294,10 +297,7 @@ private FunctionAnnotationMetadataBuilder getOrCreateFunctionBuilder(Method meth
         return methodBuilders.computeIfAbsent(MethodSignature.of(method), methodName -> new FunctionAnnotationMetadataBuilder(method, validationContext));
     }
 
-    private ImmutableSortedSet<PropertyAnnotationMetadata> extractPropertiesFrom(Class<?> type, Map<String, PropertyAnnotationMetadataBuilder> methodBuilders, TypeValidationContext validationContext) {
-        Method[] methods = type.getDeclaredMethods();
-        // Make sure getters end up before the setters
-        Arrays.sort(methods, comparing(Method::getName));
+    private ImmutableSortedSet<PropertyAnnotationMetadata> extractPropertiesFrom(Class<?> type, Method[] methods, Map<String, PropertyAnnotationMetadataBuilder> methodBuilders, TypeValidationContext validationContext) {
         for (Method method : methods) {
             processPropertyMethodAnnotations(method, methodBuilders, validationContext);
         }
@@ -307,10 +307,7 @@ private ImmutableSortedSet<PropertyAnnotationMetadata> extractPropertiesFrom(Cla
         return mergePropertiesAndFieldMetadata(type, propertyBuilders, fieldAnnotationsByPropertyName, validationContext);
     }
 
-    private ImmutableSortedSet<FunctionAnnotationMetadata> extractFunctionsFrom(Class<?> type, Map<MethodSignature, FunctionAnnotationMetadataBuilder> methodBuilders, TypeValidationContext validationContext) {
-        Method[] methods = type.getDeclaredMethods();
-        // Make sure getters end up before the setters
-        Arrays.sort(methods, comparing(Method::getName));
+    private ImmutableSortedSet<FunctionAnnotationMetadata> extractFunctionsFrom(Method[] methods, Map<MethodSignature, FunctionAnnotationMetadataBuilder> methodBuilders, TypeValidationContext validationContext) {
         for (Method method : methods) {
             processFunctionMethodAnnotations(method, methodBuilders, validationContext);
         }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.workers.internal;
+
+import org.gradle.internal.exceptions.DefaultMultiCauseException;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The combined result of executing a batch of work items. The batch did work if any item did work, and failed if any item failed.
+ */
+public class DefaultBatchWorkResult extends DefaultWorkResult {
+    private DefaultBatchWorkResult(boolean didWork, @Nullable Throwable exception) {
+        super(didWork, exception);
+    }
+
+    public static DefaultBatchWorkResult of(List<DefaultWorkResult> results) {
+        boolean didWork = false;
+        List<Throwable> failures = new ArrayList<>();
+        for (DefaultWorkResult result : results) {
+            didWork |= result.getDidWork();
+            if (!result.isSuccess()) {
+                failures.add(result.getException());
+            }
+        }
+        Throwable exception = failures.isEmpty() ? null : new DefaultMultiCauseException(failures.size() + " of " + results.size() + " work items in the batch failed.", failures);
+        return new DefaultBatchWorkResult(didWork, exception);
+    }
+}
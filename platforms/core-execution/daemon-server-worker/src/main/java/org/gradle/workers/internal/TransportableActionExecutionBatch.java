@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.workers.internal;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A batch of work items that use the same work action and classloader structure, sent to a worker in a single request.
+ */
+public class TransportableActionExecutionBatch extends TransportableActionExecutionSpec {
+    private final List<byte[]> serializedParametersBatch;
+
+    public TransportableActionExecutionBatch(String implementationClassName, List<byte[]> serializedParametersBatch, ClassLoaderStructure classLoaderStructure, File baseDir, File projectCacheDir, boolean usesInternalServices) {
+        super(implementationClassName, serializedParametersBatch.get(0), classLoaderStructure, baseDir, projectCacheDir, usesInternalServices);
+        this.serializedParametersBatch = serializedParametersBatch;
+    }
+
+    public static TransportableActionExecutionBatch of(List<TransportableActionExecutionSpec> items) {
+        TransportableActionExecutionSpec first = items.get(0);
+        List<byte[]> serializedParametersBatch = new ArrayList<>(items.size());
+        for (TransportableActionExecutionSpec item : items) {
+            serializedParametersBatch.add(item.getSerializedParameters());
+        }
+        return new TransportableActionExecutionBatch(first.getImplementationClassName(), serializedParametersBatch, first.getClassLoaderStructure(), first.getBaseDir(), first.getProjectCacheDir(), first.isInternalServicesRequired());
+    }
+
+    public List<byte[]> getSerializedParametersBatch() {
+        return serializedParametersBatch;
+    }
+
+    public List<TransportableActionExecutionSpec> getItems() {
+        List<TransportableActionExecutionSpec> items = new ArrayList<>(serializedParametersBatch.size());
+        for (byte[] serializedParameters : serializedParametersBatch) {
+            items.add(new TransportableActionExecutionSpec(implementationClassName, serializedParameters, getClassLoaderStructure(), getBaseDir(), getProjectCacheDir(), isInternalServicesRequired()));
+        }
+        return items;
+    }
+}
@@ -21,6 +21,9 @@
 import org.gradle.internal.serialize.Serializer;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class TransportableActionExecutionSpecSerializer implements Serializer<TransportableActionExecutionSpec> {
     private static final byte FLAT = (byte) 0;
@@ -34,7 +37,13 @@ public void write(Encoder encoder, TransportableActionExecutionSpec spec) throws
         encoder.writeBoolean(spec.isInternalServicesRequired());
         encoder.writeString(spec.getBaseDir().getAbsolutePath());
         encoder.writeString(spec.getProjectCacheDir().getAbsolutePath());
-        encoder.writeBinary(spec.getSerializedParameters());
+        List<byte[]> serializedParameters = spec instanceof TransportableActionExecutionBatch
+            ? ((TransportableActionExecutionBatch) spec).getSerializedParametersBatch()
+            : Collections.singletonList(spec.getSerializedParameters());
+        encoder.writeSmallInt(serializedParameters.size());
+        for (byte[] parameters : serializedParameters) {
+            encoder.writeBinary(parameters);
+        }
         if (spec.getClassLoaderStructure() instanceof HierarchicalClassLoaderStructure) {
             encoder.writeByte(HIERARCHICAL);
             hierarchicalClassLoaderStructureSerializer.write(encoder, (HierarchicalClassLoaderStructure) spec.getClassLoaderStructure());
@@ -52,7 +61,11 @@ public TransportableActionExecutionSpec read(Decoder decoder) throws Exception {
         boolean usesInternalServices = decoder.readBoolean();
         String baseDirPath = decoder.readString();
         String projectCacheDir = decoder.readString();
-        byte[] serializedParameters = decoder.readBinary();
+        int batchSize = decoder.readSmallInt();
+        List<byte[]> serializedParameters = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            serializedParameters.add(decoder.readBinary());
+        }
         byte classLoaderStructureTag = decoder.readByte();
         ClassLoaderStructure classLoaderStructure;
         switch (classLoaderStructureTag) {
@@ -65,6 +78,9 @@ public TransportableActionExecutionSpec read(Decoder decoder) throws Exception {
             default:
                 throw new IllegalArgumentException("Unexpected payload type.");
         }
-        return new TransportableActionExecutionSpec(implementationClassName, serializedParameters, classLoaderStructure, new File(baseDirPath), new File(projectCacheDir), usesInternalServices);
+        if (batchSize == 1) {
+            return new TransportableActionExecutionSpec(implementationClassName, serializedParameters.get(0), classLoaderStructure, new File(baseDirPath), new File(projectCacheDir), usesInternalServices);
+        }
+        return new TransportableActionExecutionBatch(implementationClassName, serializedParameters, classLoaderStructure, new File(baseDirPath), new File(projectCacheDir), usesInternalServices);
     }
 }
@@ -73,6 +73,8 @@
 
 import javax.inject.Inject;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 public class WorkerDaemonServer implements RequestHandler<TransportableActionExecutionSpec, DefaultWorkResult> {
     private final ServiceRegistry internalServices;
@@ -105,6 +107,9 @@ public DefaultWorkResult run(TransportableActionExecutionSpec spec) {
         try {
             try (CloseableServiceRegistry internalServices = WorkerProjectServices.create(this.internalServices, spec.getBaseDir(), spec.getProjectCacheDir())) {
                 RequestHandler<TransportableActionExecutionSpec, DefaultWorkResult> worker = getIsolatedClassloaderWorker(spec.getClassLoaderStructure(), internalServices);
+                if (spec instanceof TransportableActionExecutionBatch) {
+                    return runBatch((TransportableActionExecutionBatch) spec, worker);
+                }
                 return worker.run(spec);
             }
         } catch (Throwable t) {
@@ -112,6 +117,21 @@ public DefaultWorkResult run(TransportableActionExecutionSpec spec) {
         }
     }
 
+    /**
+     * Runs the items of the batch one after the other, sharing the services and classloader worker between the items.
+     */
+    private static DefaultWorkResult runBatch(TransportableActionExecutionBatch batch, RequestHandler<TransportableActionExecutionSpec, DefaultWorkResult> worker) {
+        List<DefaultWorkResult> results = new ArrayList<>(batch.getSerializedParametersBatch().size());
+        for (TransportableActionExecutionSpec item : batch.getItems()) {
+            try {
+                results.add(worker.run(item));
+            } catch (Throwable t) {
+                results.add(new DefaultWorkResult(true, t));
+            }
+        }
+        return DefaultBatchWorkResult.of(results);
+    }
+
     private RequestHandler<TransportableActionExecutionSpec, DefaultWorkResult> getIsolatedClassloaderWorker(ClassLoaderStructure classLoaderStructure, ServiceRegistry workServices) {
         if (classLoaderStructure instanceof FlatClassLoaderStructure) {
             return new FlatClassLoaderWorker(this.getClass().getClassLoader(), workServices, actionExecutionSpecFactory, instantiatorFactory);
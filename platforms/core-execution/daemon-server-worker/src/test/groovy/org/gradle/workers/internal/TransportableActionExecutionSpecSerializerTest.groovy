@@ -70,6 +70,26 @@ class TransportableActionExecutionSpecSerializerTest extends Specification {
         decodedSpec.internalServicesRequired
     }
 
+    def "can serialize and deserialize a batch of specs"() {
+        def otherBytes = [ (byte) 4, (byte) 5 ] as byte[]
+        def spec = new TransportableActionExecutionBatch(Runnable.class.name, [bytes, otherBytes], flatClassLoaderStructure(), new File("/foo"), new File("/project-cache"), usesInternalServices)
+
+        when:
+        serializer.write(encoder, spec)
+        encoder.flush()
+
+        and:
+        def decoder = new KryoBackedDecoder(new ByteArrayInputStream(outputStream.toByteArray()))
+        def decodedSpec = serializer.read(decoder)
+
+        then:
+        decodedSpec instanceof TransportableActionExecutionBatch
+        decodedSpec.serializedParametersBatch == [bytes, otherBytes]
+        decodedSpec.items*.serializedParameters == [bytes, otherBytes]
+        decodedSpec.items*.implementationClassName == [Runnable.class.name, Runnable.class.name]
+        decodedSpec.internalServicesRequired
+    }
+
     def filteringClassloaderSpec() {
         def classNames = [ 'allowed.Class1', 'allowed.Class2' ]
         def disallowedClassNames = [ 'disallowed.Class1', 'disallowed.Class2' ]
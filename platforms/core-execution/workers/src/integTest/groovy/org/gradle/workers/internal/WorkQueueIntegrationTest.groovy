@@ -214,6 +214,41 @@ class WorkQueueIntegrationTest extends AbstractWorkerExecutorIntegrationTest {
         isolationMode << ISOLATION_MODES
     }
 
+    def "failed items of a batch do not stop the rest of the batch and are all reported when waiting in #isolationMode"() {
+        buildFile << """
+            task runWork(type: WorkItemTask) {
+                isolationMode = ${isolationMode}
+                doLast {
+                    def workQueue = submitBatch(ParallelWorkAction.class, [ item1: true, item2: false, item3: true, item4: false ])
+
+                    try {
+                        workQueue.await()
+                    } catch (Exception e) {
+                        printMessages(e)
+                    }
+                }
+            }
+        """
+
+        // Items of a batch run one after the other
+        blockingHttpServer.expect("item1")
+        blockingHttpServer.expect("item2")
+        blockingHttpServer.expect("item3")
+        blockingHttpServer.expect("item4")
+
+        when:
+        succeeds("runWork")
+
+        then:
+        assertWorkItemsExecuted("item2", "item4")
+
+        and:
+        result.groupedOutput.task(":runWork").output.readLines().containsAll("2 of 4 work items in the batch failed.", "Failure from item1", "Failure from item3")
+
+        where:
+        isolationMode << ISOLATION_MODES
+    }
+
     void assertWorkItemsExecuted(String... items) {
         File outputDir = new File("${fixture.outputFileDirPath}")
         assert items.every { item ->
@@ -249,6 +284,17 @@ class WorkQueueIntegrationTest extends AbstractWorkerExecutorIntegrationTest {
                     return workQueue
                 }
 
+                def submitBatch(Class<?> executionClass, Map<String, Boolean> items) {
+                    def workQueue = workerExecutor."\${isolationMode}"()
+                    workQueue.submitBatch(executionClass, items.collect { name, error ->
+                        { parameters ->
+                            parameters.itemName = name
+                            parameters.shouldFail = error
+                        } as Action
+                    })
+                    return workQueue
+                }
+
                 def signal(String signal) {
                     new URI("http", null, "localhost", ${blockingHttpServer.getPort()}, "/\${signal}", null, null).toURL().text
                 }
@@ -17,6 +17,7 @@
 package org.gradle.workers;
 
 import org.gradle.api.Action;
+import org.gradle.api.Incubating;
 
 /**
  * Represents a queue of work items with a uniform set of worker requirements.
@@ -37,6 +38,21 @@ public interface WorkQueue {
      */
     <T extends WorkParameters> void submit(Class<? extends WorkAction<T>> workActionClass, Action<? super T> parameterAction);
 
+    /**
+     * Submits a batch of work items that use the same work action, to be executed asynchronously as a single piece of work.
+     *
+     * Each of the given parameter actions configures the parameters of one work item. The items of a batch are executed one after the other,
+     * in the given order, by the same worker. Work submitted using {@link WorkerExecutor#processIsolation()} is sent to the worker daemon
+     * in a single request. This avoids most of the per-item overhead of {@link #submit(Class, Action)} when there are many small work items.
+     *
+     * A failure of one item does not prevent the remaining items of the batch from executing. The failures of all items
+     * will be thrown from {@link #await()} or from the surrounding task action if {@link #await()} is not used.
+     *
+     * @since 9.0
+     */
+    @Incubating
+    <T extends WorkParameters> void submitBatch(Class<? extends WorkAction<T>> workActionClass, Iterable<? extends Action<? super T>> parameterActions);
+
     /**
      * Blocks until all work associated with this queue is complete.  Note that when using this method inside
      * a task action, it will block completion of the task action until the submitted work is complete.  This means that other
@@ -22,6 +22,9 @@
 import org.gradle.internal.operations.BuildOperationRunner;
 import org.gradle.internal.operations.CallableBuildOperation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public abstract class AbstractWorker implements BuildOperationAwareWorker {
 
     public static final Result RESULT = new Result();
@@ -37,6 +40,21 @@ public DefaultWorkResult execute(IsolatedParametersActionExecutionSpec<?> spec)
         return execute(spec, buildOperationRunner.getCurrentOperation());
     }
 
+    /**
+     * Runs the items of a batch one after the other. A failed item does not stop the rest of the batch, and every failure is reported in the combined result.
+     */
+    static DefaultWorkResult runBatch(List<IsolatedParametersActionExecutionSpec<?>> specs, Work work) {
+        List<DefaultWorkResult> results = new ArrayList<>(specs.size());
+        for (IsolatedParametersActionExecutionSpec<?> spec : specs) {
+            try {
+                results.add(work.execute(spec));
+            } catch (Throwable t) {
+                results.add(new DefaultWorkResult(true, t));
+            }
+        }
+        return DefaultBatchWorkResult.of(results);
+    }
+
     DefaultWorkResult executeWrappedInBuildOperation(final IsolatedParametersActionExecutionSpec<?> spec, final BuildOperationRef parentBuildOperation, final Work work) {
         return buildOperationRunner.call(new CallableBuildOperation<DefaultWorkResult>() {
             @Override
@@ -56,6 +74,31 @@ public BuildOperationDescriptor.Builder description() {
         });
     }
 
+    DefaultWorkResult executeBatchWrappedInBuildOperation(final List<IsolatedParametersActionExecutionSpec<?>> specs, final BuildOperationRef parentBuildOperation, final BatchWork work) {
+        final IsolatedParametersActionExecutionSpec<?> first = specs.get(0);
+        final String displayName = first.getDisplayName() + " (batch of " + specs.size() + " work items)";
+        return buildOperationRunner.call(new CallableBuildOperation<DefaultWorkResult>() {
+            @Override
+            public DefaultWorkResult call(BuildOperationContext context) {
+                DefaultWorkResult result = work.execute(specs);
+                context.setResult(RESULT);
+                context.failed(result.getException());
+                return result;
+            }
+
+            @Override
+            public BuildOperationDescriptor.Builder description() {
+                return BuildOperationDescriptor.displayName(displayName)
+                    .parent(parentBuildOperation)
+                    .details(new Details(first.getActionImplementationClassName(), displayName));
+            }
+        });
+    }
+
+    interface BatchWork {
+        DefaultWorkResult execute(List<IsolatedParametersActionExecutionSpec<?>> specs);
+    }
+
     interface Work {
         DefaultWorkResult execute(IsolatedParametersActionExecutionSpec<?> spec);
     }
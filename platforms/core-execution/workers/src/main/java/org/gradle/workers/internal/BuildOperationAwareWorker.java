@@ -18,8 +18,16 @@
 
 import org.gradle.internal.operations.BuildOperationRef;
 
+import java.util.List;
+
 public interface BuildOperationAwareWorker {
     DefaultWorkResult execute(IsolatedParametersActionExecutionSpec<?> spec);
 
     DefaultWorkResult execute(IsolatedParametersActionExecutionSpec<?> spec, final BuildOperationRef parentBuildOperation);
+
+    /**
+     * Executes the given work items one after the other, returning a result that combines the results of all items.
+     * A failure of one item does not prevent the remaining items from executing.
+     */
+    DefaultWorkResult executeBatch(List<IsolatedParametersActionExecutionSpec<?>> specs, BuildOperationRef parentBuildOperation);
 }
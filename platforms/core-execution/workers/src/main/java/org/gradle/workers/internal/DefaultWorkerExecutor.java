@@ -48,6 +48,7 @@
 import org.gradle.workers.WorkerExecutionException;
 import org.gradle.workers.WorkerExecutor;
 import org.gradle.workers.WorkerSpec;
+import org.jspecify.annotations.Nullable;
 
 import javax.annotation.concurrent.NotThreadSafe;
 import java.io.File;
@@ -165,6 +166,48 @@ private <T extends WorkParameters> AsyncWorkCompletion submitWork(Class<? extend
         return submitWork(spec, workerFactory, workerRequirement);
     }
 
+    @Nullable
+    private <T extends WorkParameters> AsyncWorkCompletion submitBatch(Class<? extends WorkAction<T>> workActionClass, Iterable<? extends Action<? super T>> parameterActions, WorkerSpec workerSpec, WorkerFactory workerFactory) {
+        Class<T> parameterType = isolationScheme.parameterTypeFor(workActionClass);
+        String description = workActionClass.getName();
+        WorkerRequirement workerRequirement = null;
+        List<IsolatedParametersActionExecutionSpec<?>> specs = new ArrayList<>();
+        for (Action<? super T> parameterAction : parameterActions) {
+            T parameters = (parameterType == null) ? null : instantiator.newInstance(parameterType);
+            if (parameters != null) {
+                parameterAction.execute(parameters);
+            }
+            if (workerRequirement == null) {
+                // All items share the action and parameter types, so they share the requirement as well
+                workerRequirement = getWorkerRequirement(workActionClass, workerSpec, parameters);
+            }
+            try {
+                // Isolate parameters in this thread prior to starting work in a separate thread
+                specs.add(actionExecutionSpecFactory.newIsolatedSpec(description, workActionClass, parameters, workerRequirement, false));
+            } catch (Throwable t) {
+                throw new WorkExecutionException(description, t);
+            }
+        }
+        if (specs.isEmpty()) {
+            return null;
+        }
+
+        checkIsManagedThread();
+        final BuildOperationRef currentBuildOperation = buildOperationRunner.getCurrentOperation();
+        final WorkerRequirement batchRequirement = workerRequirement;
+        WorkItemExecution execution = new WorkItemExecution(description + " (batch of " + specs.size() + " work items)", () -> {
+            try {
+                BuildOperationAwareWorker worker = workerFactory.getWorker(batchRequirement);
+                return worker.executeBatch(specs, currentBuildOperation);
+            } catch (Throwable t) {
+                throw new WorkExecutionException(description, t);
+            }
+        });
+        executionQueue.submit(execution);
+        asyncWorkTracker.registerWork(currentBuildOperation, execution);
+        return execution;
+    }
+
     private AsyncWorkCompletion submitWork(IsolatedParametersActionExecutionSpec<?> spec, WorkerFactory workerFactory, WorkerRequirement workerRequirement) {
         checkIsManagedThread();
         final BuildOperationRef currentBuildOperation = buildOperationRunner.getCurrentOperation();
@@ -307,6 +350,14 @@ public <T extends WorkParameters> void submit(Class<? extends WorkAction<T>> wor
             workItems.add(workerExecutor.submitWork(workActionClass, parameterAction, spec, workerFactory));
         }
 
+        @Override
+        public <T extends WorkParameters> void submitBatch(Class<? extends WorkAction<T>> workActionClass, Iterable<? extends Action<? super T>> parameterActions) {
+            AsyncWorkCompletion batch = workerExecutor.submitBatch(workActionClass, parameterActions, spec, workerFactory);
+            if (batch != null) {
+                workItems.add(batch);
+            }
+        }
+
         @Override
         public void await() throws WorkerExecutionException {
             workerExecutor.await(workItems);
@@ -26,6 +26,8 @@
 import org.gradle.internal.service.scopes.ServiceScope;
 import org.gradle.process.internal.worker.RequestHandler;
 
+import java.util.List;
+
 @ServiceScope(Scope.Project.class)
 public class IsolatedClassloaderWorkerFactory implements WorkerFactory {
     private final BuildOperationRunner buildOperationRunner;
@@ -51,15 +53,26 @@ public BuildOperationAwareWorker getWorker(WorkerRequirement workerRequirement)
             public DefaultWorkResult execute(IsolatedParametersActionExecutionSpec<?> spec, BuildOperationRef parentBuildOperation) {
                 return executeWrappedInBuildOperation(spec, parentBuildOperation, workSpec -> {
                     // Serialize the incoming class and parameters
-                    TransportableActionExecutionSpec transportableSpec = actionExecutionSpecFactory.newTransportableSpec(spec);
+                    TransportableActionExecutionSpec transportableSpec = actionExecutionSpecFactory.newTransportableSpec(workSpec);
+                    return createWorker().run(transportableSpec);
+                });
+            }
 
-                    ClassLoader workerInfrastructureClassloader = classLoaderRegistry.getPluginsClassLoader();
-                    ClassLoaderStructure classLoaderStructure = ((IsolatedClassLoaderWorkerRequirement) workerRequirement).getClassLoaderStructure();
-                    ClassLoader workerClassLoader = IsolatedClassloaderWorker.createIsolatedWorkerClassloader(classLoaderStructure, workerInfrastructureClassloader, legacyTypesSupport);
-                    RequestHandler<TransportableActionExecutionSpec, DefaultWorkResult> worker = new IsolatedClassloaderWorker(workerClassLoader, internalServices, actionExecutionSpecFactory, instantiatorFactory);
-                    return worker.run(transportableSpec);
+            @Override
+            public DefaultWorkResult executeBatch(List<IsolatedParametersActionExecutionSpec<?>> specs, BuildOperationRef parentBuildOperation) {
+                return executeBatchWrappedInBuildOperation(specs, parentBuildOperation, batch -> {
+                    // All items of the batch share a single isolated classloader
+                    RequestHandler<TransportableActionExecutionSpec, DefaultWorkResult> worker = createWorker();
+                    return runBatch(batch, workSpec -> worker.run(actionExecutionSpecFactory.newTransportableSpec(workSpec)));
                 });
             }
+
+            private RequestHandler<TransportableActionExecutionSpec, DefaultWorkResult> createWorker() {
+                ClassLoader workerInfrastructureClassloader = classLoaderRegistry.getPluginsClassLoader();
+                ClassLoaderStructure classLoaderStructure = ((IsolatedClassLoaderWorkerRequirement) workerRequirement).getClassLoaderStructure();
+                ClassLoader workerClassLoader = IsolatedClassloaderWorker.createIsolatedWorkerClassloader(classLoaderStructure, workerInfrastructureClassloader, legacyTypesSupport);
+                return new IsolatedClassloaderWorker(workerClassLoader, internalServices, actionExecutionSpecFactory, instantiatorFactory);
+            }
         };
     }
 }
@@ -27,9 +27,9 @@
 import org.gradle.workers.WorkAction;
 import org.gradle.workers.WorkParameters;
 import org.gradle.workers.WorkerExecutor;
-import org.jspecify.annotations.Nullable;
 
 import java.util.Collections;
+import java.util.List;
 
 public class NoIsolationWorkerFactory implements WorkerFactory {
     private final BuildOperationRunner buildOperationRunner;
@@ -56,23 +56,22 @@ public BuildOperationAwareWorker getWorker(WorkerRequirement workerRequirement)
         return new AbstractWorker(buildOperationRunner) {
             @Override
             public DefaultWorkResult execute(IsolatedParametersActionExecutionSpec<?> spec, BuildOperationRef parentBuildOperation) {
-                return executeWrappedInBuildOperation(spec, parentBuildOperation, workSpec -> {
-                    DefaultWorkResult result;
-                    try {
-                        result = ClassLoaderUtils.executeInClassloader(contextClassLoader, new Factory<DefaultWorkResult>() {
-                            @Nullable
-                            @Override
-                            public DefaultWorkResult create() {
-                                return workerServer.execute(specFactory.newSimpleSpec(workSpec));
-                            }
-                        });
-                    } finally {
-                        //TODO the async work tracker should wait for children of an operation to finish first.
-                        //It should not be necessary to call it here.
-                        workerExecutor.await();
-                    }
-                    return result;
-                });
+                return executeWrappedInBuildOperation(spec, parentBuildOperation, workSpec -> executeInContextClassLoader(() -> workerServer.execute(specFactory.newSimpleSpec(workSpec))));
+            }
+
+            @Override
+            public DefaultWorkResult executeBatch(List<IsolatedParametersActionExecutionSpec<?>> specs, BuildOperationRef parentBuildOperation) {
+                return executeBatchWrappedInBuildOperation(specs, parentBuildOperation, batch -> executeInContextClassLoader(() -> runBatch(batch, workSpec -> workerServer.execute(specFactory.newSimpleSpec(workSpec)))));
+            }
+
+            private DefaultWorkResult executeInContextClassLoader(Factory<DefaultWorkResult> work) {
+                try {
+                    return ClassLoaderUtils.executeInClassloader(contextClassLoader, work);
+                } finally {
+                    //TODO the async work tracker should wait for children of an operation to finish first.
+                    //It should not be necessary to call it here.
+                    workerExecutor.await();
+                }
             }
         };
     }
@@ -24,6 +24,8 @@
 import org.gradle.process.internal.worker.MultiRequestClient;
 import org.gradle.process.internal.worker.WorkerProcess;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 class WorkerDaemonClient implements Stoppable, Describable {
@@ -49,6 +51,15 @@ public DefaultWorkResult execute(IsolatedParametersActionExecutionSpec<?> spec)
         return workerClient.run(actionExecutionSpecFactory.newTransportableSpec(spec));
     }
 
+    public DefaultWorkResult executeBatch(List<IsolatedParametersActionExecutionSpec<?>> specs) {
+        uses += specs.size();
+        List<TransportableActionExecutionSpec> items = new ArrayList<>(specs.size());
+        for (IsolatedParametersActionExecutionSpec<?> spec : specs) {
+            items.add(actionExecutionSpecFactory.newTransportableSpec(spec));
+        }
+        return workerClient.run(TransportableActionExecutionBatch.of(items));
+    }
+
     public boolean isCompatibleWith(DaemonForkOptions required) {
         return forkOptions.isCompatibleWith(required);
     }
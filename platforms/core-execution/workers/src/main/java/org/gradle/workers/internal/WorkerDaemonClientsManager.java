@@ -21,6 +21,10 @@
 import org.gradle.api.logging.LogLevel;
 import org.gradle.api.logging.Logger;
 import org.gradle.api.logging.Logging;
+import org.gradle.internal.buildoption.IntegerInternalOption;
+import org.gradle.internal.concurrent.CompositeStoppable;
+import org.gradle.internal.concurrent.ExecutorFactory;
+import org.gradle.internal.concurrent.ManagedExecutor;
 import org.gradle.internal.concurrent.Stoppable;
 import org.gradle.internal.event.ListenerManager;
 import org.gradle.internal.logging.LoggingManagerInternal;
@@ -38,6 +42,7 @@
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static java.util.Comparator.comparingInt;
@@ -46,10 +51,13 @@
 public class WorkerDaemonClientsManager implements Stoppable {
 
     private static final Logger LOGGER = Logging.getLogger(WorkerDaemonClientsManager.class);
+    public static final IntegerInternalOption PREWARM_DAEMONS = new IntegerInternalOption("org.gradle.workers.internal.prewarm-daemons", 0);
 
     private final Object lock = new Object();
     private final List<WorkerDaemonClient> allClients = new ArrayList<WorkerDaemonClient>();
     private final List<WorkerDaemonClient> idleClients = new ArrayList<WorkerDaemonClient>();
+    private final List<PrewarmingClient> prewarmingClients = new ArrayList<PrewarmingClient>();
+    private final List<DaemonForkOptions> prewarmCandidates = new ArrayList<DaemonForkOptions>();
 
     private final WorkerDaemonStarter workerDaemonStarter;
     private final ListenerManager listenerManager;
@@ -59,10 +67,14 @@ public class WorkerDaemonClientsManager implements Stoppable {
     private final OutputEventListener logLevelChangeEventListener;
     private final WorkerDaemonExpiration workerDaemonExpiration;
     private final MemoryManager memoryManager;
+    private final ExecutorFactory executorFactory;
+    private ManagedExecutor prewarmExecutor;
     private volatile LogLevel currentLogLevel;
+    private volatile int maxPrewarmedDaemons;
 
-    public WorkerDaemonClientsManager(WorkerDaemonStarter workerDaemonStarter, ListenerManager listenerManager, LoggingManagerInternal loggingManager, MemoryManager memoryManager, OsMemoryInfo memoryInfo) {
+    public WorkerDaemonClientsManager(WorkerDaemonStarter workerDaemonStarter, ListenerManager listenerManager, LoggingManagerInternal loggingManager, MemoryManager memoryManager, OsMemoryInfo memoryInfo, ExecutorFactory executorFactory) {
         this.workerDaemonStarter = workerDaemonStarter;
+        this.executorFactory = executorFactory;
         this.listenerManager = listenerManager;
         this.loggingManager = loggingManager;
         this.memoryInfo = memoryInfo;
@@ -118,6 +130,10 @@ private static void emitUnexpectedWorkerFailureWarning(WorkerDaemonClient candid
     }
 
     WorkerDaemonClient reserveNewClient(DaemonForkOptions forkOptions) {
+        WorkerDaemonClient prewarmed = claimPrewarmingClient(forkOptions);
+        if (prewarmed != null) {
+            return prewarmed;
+        }
         //allow the daemon to be started concurrently
         WorkerDaemonClient client = workerDaemonStarter.startDaemon(forkOptions);
         synchronized (lock) {
@@ -126,6 +142,79 @@ WorkerDaemonClient reserveNewClient(DaemonForkOptions forkOptions) {
         return client;
     }
 
+    /**
+     * Starts a worker daemon with the given options in the background, so that it is idle and ready when work requiring it is submitted.
+     * Does nothing when a compatible daemon is already idle or being started.
+     */
+    public void prewarm(DaemonForkOptions forkOptions) {
+        PrewarmingClient prewarming;
+        synchronized (lock) {
+            for (WorkerDaemonClient idleClient : idleClients) {
+                if (idleClient.isCompatibleWith(forkOptions)) {
+                    return;
+                }
+            }
+            for (PrewarmingClient candidate : prewarmingClients) {
+                if (candidate.forkOptions.isCompatibleWith(forkOptions)) {
+                    return;
+                }
+            }
+            if (prewarmExecutor == null) {
+                prewarmExecutor = executorFactory.create("Worker daemon prewarming");
+            }
+            prewarming = new PrewarmingClient(forkOptions);
+            prewarmingClients.add(prewarming);
+        }
+        prewarmExecutor.execute(() -> startPrewarmingClient(prewarming));
+    }
+
+    private void startPrewarmingClient(PrewarmingClient prewarming) {
+        WorkerDaemonClient client;
+        try {
+            client = workerDaemonStarter.startDaemon(prewarming.forkOptions);
+        } catch (Throwable t) {
+            LOGGER.info("Could not prewarm worker daemon with fork options {}.", prewarming.forkOptions, t);
+            synchronized (lock) {
+                prewarmingClients.remove(prewarming);
+            }
+            prewarming.result.completeExceptionally(t);
+            return;
+        }
+        synchronized (lock) {
+            allClients.add(client);
+            if (prewarmingClients.remove(prewarming)) {
+                // Nobody claimed the daemon while it was starting
+                idleClients.add(client);
+            }
+        }
+        prewarming.result.complete(client);
+    }
+
+    private WorkerDaemonClient claimPrewarmingClient(DaemonForkOptions forkOptions) {
+        PrewarmingClient claimed = null;
+        synchronized (lock) {
+            Iterator<PrewarmingClient> it = prewarmingClients.iterator();
+            while (it.hasNext()) {
+                PrewarmingClient candidate = it.next();
+                if (candidate.forkOptions.isCompatibleWith(forkOptions)) {
+                    it.remove();
+                    claimed = candidate;
+                    break;
+                }
+            }
+        }
+        if (claimed == null) {
+            return null;
+        }
+        try {
+            // Do not hold the lock while waiting, as the prewarming thread needs it to register the client
+            return claimed.result.join();
+        } catch (RuntimeException e) {
+            // Failure has already been logged, fall back to starting a new daemon
+            return null;
+        }
+    }
+
     void release(WorkerDaemonClient client) {
         synchronized (lock) {
             if (!client.isFailed()) {
@@ -136,6 +225,13 @@ void release(WorkerDaemonClient client) {
 
     @Override
     public void stop() {
+        ManagedExecutor executor;
+        synchronized (lock) {
+            executor = prewarmExecutor;
+            prewarmExecutor = null;
+        }
+        // Wait for daemons that are being prewarmed, so that they are stopped below
+        CompositeStoppable.stoppable(executor).stop();
         synchronized (lock) {
             stopAllWorkers();
             listenerManager.removeListener(stopSessionScopeWorkers);
@@ -226,14 +322,60 @@ public void onOutput(OutputEvent event) {
         }
     }
 
+    /**
+     * Sets the number of session-scoped daemons to start again when the next build session starts, as requested by the current build session.
+     */
+    public void setMaxPrewarmedDaemons(int maxPrewarmedDaemons) {
+        this.maxPrewarmedDaemons = maxPrewarmedDaemons;
+    }
+
     private class StopSessionScopedWorkers implements BuildSessionLifecycleListener {
+        @Override
+        public void afterStart() {
+            List<DaemonForkOptions> candidates;
+            synchronized (lock) {
+                candidates = new ArrayList<DaemonForkOptions>(prewarmCandidates);
+                prewarmCandidates.clear();
+            }
+            int count = Math.min(candidates.size(), maxPrewarmedDaemons);
+            for (int i = 0; i < count; i++) {
+                prewarm(candidates.get(i));
+            }
+        }
+
         @Override
         public void beforeComplete() {
             synchronized (lock) {
                 List<WorkerDaemonClient> sessionScopedClients = CollectionUtils.filter(allClients, client -> client.getKeepAliveMode() == KeepAliveMode.SESSION);
+                rememberForPrewarming(sessionScopedClients);
                 stopWorkers(sessionScopedClients);
             }
         }
+
+        private void rememberForPrewarming(List<WorkerDaemonClient> clients) {
+            if (maxPrewarmedDaemons <= 0) {
+                return;
+            }
+            // Most used daemons are the most likely to be needed by the next build
+            for (WorkerDaemonClient client : CollectionUtils.sort(clients, comparingInt(WorkerDaemonClient::getUses).reversed())) {
+                if (prewarmCandidates.size() >= maxPrewarmedDaemons) {
+                    return;
+                }
+                DaemonForkOptions forkOptions = client.getForkOptions();
+                if (forkOptions != null && !client.isFailed() && CollectionUtils.every(prewarmCandidates, candidate -> !candidate.isCompatibleWith(forkOptions))) {
+                    prewarmCandidates.add(forkOptions);
+                }
+            }
+        }
+    }
+
+    private static class PrewarmingClient {
+        final DaemonForkOptions forkOptions;
+        final CompletableFuture<WorkerDaemonClient> result = new CompletableFuture<WorkerDaemonClient>();
+
+        PrewarmingClient(DaemonForkOptions forkOptions) {
+            this.forkOptions = forkOptions;
+        }
     }
 
     private static final Consumer<WorkerDaemonClient> STOP_CLIENT = WorkerDaemonClient::stop;
@@ -23,6 +23,7 @@
 import org.gradle.internal.service.scopes.ServiceScope;
 
 import javax.annotation.concurrent.ThreadSafe;
+import java.util.List;
 
 /**
  * Controls the lifecycle of the worker daemon and provides access to it.
@@ -61,6 +62,19 @@ public DefaultWorkResult execute(IsolatedParametersActionExecutionSpec<?> spec,
                 }
             }
 
+            @Override
+            public DefaultWorkResult executeBatch(List<IsolatedParametersActionExecutionSpec<?>> specs, BuildOperationRef parentBuildOperation) {
+                workerDaemonClientCancellationHandler.start();
+
+                // Send the whole batch to a single daemon in one request
+                final WorkerDaemonClient client = CurrentBuildOperationRef.instance().with(parentBuildOperation, this::reserveClient);
+                try {
+                    return executeBatchWrappedInBuildOperation(specs, parentBuildOperation, client::executeBatch);
+                } finally {
+                    clientsManager.release(client);
+                }
+            }
+
             private WorkerDaemonClient reserveClient() {
                 DaemonForkOptions forkOptions = ((ForkedWorkerRequirement) workerRequirement).getForkOptions();
                 WorkerDaemonClient client = clientsManager.reserveIdleClient(forkOptions);
@@ -18,6 +18,7 @@ package org.gradle.workers.internal
 
 import org.gradle.api.internal.file.TestFiles
 import org.gradle.internal.classloader.ClassLoaderSpec
+import org.gradle.internal.classloader.VisitableURLClassLoader
 import org.gradle.process.JavaForkOptions
 import spock.lang.Specification
 
@@ -108,6 +109,40 @@ class DaemonForkOptionsTest extends Specification {
         settings1.isCompatibleWith(settings2)
     }
 
+    def "flat classloader structure is not compatible with a prefix of its classpath"() {
+        def jar1 = new URL("file:/lib/one.jar")
+        def jar2 = new URL("file:/lib/two.jar")
+        def jar3 = new URL("file:/lib/three.jar")
+        def daemon = daemonForkOptionsBuilder()
+                .withClassLoaderStructure(new FlatClassLoaderStructure(new VisitableURLClassLoader.Spec("compiler", [jar1, jar2, jar3])))
+                .build()
+        def prefix = daemonForkOptionsBuilder()
+                .withClassLoaderStructure(new FlatClassLoaderStructure(new VisitableURLClassLoader.Spec("compiler", [jar1, jar2])))
+                .build()
+        def same = daemonForkOptionsBuilder()
+                .withClassLoaderStructure(new FlatClassLoaderStructure(new VisitableURLClassLoader.Spec("compiler", [jar1, jar2, jar3])))
+                .build()
+
+        expect:
+        !daemon.isCompatibleWith(prefix)
+        !prefix.isCompatibleWith(daemon)
+        daemon.isCompatibleWith(same)
+    }
+
+    def "hierarchical classloader structure is not compatible with a subset of its classpath"() {
+        def jar1 = new URL("file:/lib/one.jar")
+        def jar2 = new URL("file:/lib/two.jar")
+        def daemon = daemonForkOptionsBuilder()
+                .withClassLoaderStructure(new HierarchicalClassLoaderStructure(new VisitableURLClassLoader.Spec("work", [jar1, jar2])))
+                .build()
+        def prefix = daemonForkOptionsBuilder()
+                .withClassLoaderStructure(new HierarchicalClassLoaderStructure(new VisitableURLClassLoader.Spec("work", [jar1])))
+                .build()
+
+        expect:
+        !daemon.isCompatibleWith(prefix)
+    }
+
     def "is compatible when classloader structures are null"() {
         def settings1 = daemonForkOptionsBuilder()
                 .withClassLoaderStructure(null)
@@ -180,6 +180,36 @@ class DefaultWorkerExecutorTest extends Specification {
         }
     }
 
+    def "executor executes a batch of work actions as a single work item"() {
+        when:
+        workerExecutor.processIsolation().submitBatch(TestExecutable.class, [Actions.doNothing(), Actions.doNothing(), Actions.doNothing()])
+
+        then:
+        1 * workerThreadRegistry.workerThread >> true
+        3 * actionExecutionSpecFactory.newIsolatedSpec(_, _, _, _, _) >> Mock(IsolatedParametersActionExecutionSpec)
+        1 * executionQueue.submit(_) >> { args -> task = args[0] }
+
+        when:
+        task.getExecution().run()
+
+        then:
+        1 * workerDaemonFactory.getWorker(_) >> worker
+        1 * worker.executeBatch(_, _) >> { specs, buildOperation ->
+            assert specs.size() == 3
+            return new DefaultWorkResult(true, null)
+        }
+        0 * worker.execute(_, _)
+    }
+
+    def "submitting an empty batch does not submit any work"() {
+        when:
+        workerExecutor.noIsolation().submitBatch(TestExecutable.class, [])
+
+        then:
+        0 * executionQueue.submit(_)
+        0 * asyncWorkTracker.registerWork(_, _)
+    }
+
     abstract static class TestExecutable implements WorkAction<WorkParameters.None> {
         @Override
         void execute() {
@@ -30,9 +30,12 @@ import org.gradle.process.internal.health.memory.DefaultMBeanAttributeProvider
 import org.gradle.process.internal.health.memory.MBeanOsMemoryInfo
 import org.gradle.process.internal.health.memory.MemoryManager
 import org.gradle.util.ConcurrentSpecification
+import org.gradle.util.SetSystemProperties
+import org.junit.Rule
 import spock.lang.Subject
 
 class WorkerDaemonClientsManagerTest extends ConcurrentSpecification {
+    @Rule SetSystemProperties systemProperties
     def options = Stub(DaemonForkOptions)
     def starter = Stub(WorkerDaemonStarter)
     def listenerManager = Stub(ListenerManager)
@@ -40,7 +43,7 @@ class WorkerDaemonClientsManagerTest extends ConcurrentSpecification {
     def memoryManager = Mock(MemoryManager)
 
     @Subject
-        manager = new WorkerDaemonClientsManager(starter, listenerManager, loggingManager, memoryManager, new MBeanOsMemoryInfo(new DefaultMBeanAttributeProvider()))
+        manager = new WorkerDaemonClientsManager(starter, listenerManager, loggingManager, memoryManager, new MBeanOsMemoryInfo(new DefaultMBeanAttributeProvider()), executorFactory)
 
     def "does not reserve idle client when no clients"() {
         expect:
@@ -146,7 +149,7 @@ class WorkerDaemonClientsManagerTest extends ConcurrentSpecification {
 
     def "can stop session-scoped clients"() {
         listenerManager = new DefaultListenerManager(Scope.BuildSession)
-        manager = new WorkerDaemonClientsManager(starter, listenerManager, loggingManager, memoryManager, new MBeanOsMemoryInfo(new DefaultMBeanAttributeProvider()))
+        manager = new WorkerDaemonClientsManager(starter, listenerManager, loggingManager, memoryManager, new MBeanOsMemoryInfo(new DefaultMBeanAttributeProvider()), executorFactory)
         def client1 = Mock(WorkerDaemonClient)
         def client2 = Mock(WorkerDaemonClient)
         starter.startDaemon(options) >>> [client1, client2]
@@ -165,7 +168,7 @@ class WorkerDaemonClientsManagerTest extends ConcurrentSpecification {
 
     def "Stopping session-scoped clients does not stop other clients"() {
         listenerManager = new DefaultListenerManager(Scope.BuildSession)
-        manager = new WorkerDaemonClientsManager(starter, listenerManager, loggingManager, memoryManager, new MBeanOsMemoryInfo(new DefaultMBeanAttributeProvider()))
+        manager = new WorkerDaemonClientsManager(starter, listenerManager, loggingManager, memoryManager, new MBeanOsMemoryInfo(new DefaultMBeanAttributeProvider()), executorFactory)
         def client1 = Mock(WorkerDaemonClient)
         def client2 = Mock(WorkerDaemonClient)
         starter.startDaemon(options) >>> [client1, client2]
@@ -213,7 +216,7 @@ class WorkerDaemonClientsManagerTest extends ConcurrentSpecification {
         loggingManager.getLevel() >> LogLevel.INFO
 
         when:
-        manager = new WorkerDaemonClientsManager(starter, listenerManager, loggingManager, memoryManager, new MBeanOsMemoryInfo(new DefaultMBeanAttributeProvider()))
+        manager = new WorkerDaemonClientsManager(starter, listenerManager, loggingManager, memoryManager, new MBeanOsMemoryInfo(new DefaultMBeanAttributeProvider()), executorFactory)
 
         then:
         listener != null
@@ -286,11 +289,72 @@ class WorkerDaemonClientsManagerTest extends ConcurrentSpecification {
         1 * client3.stop()
     }
 
+    def "prewarmed client becomes available as idle client"() {
+        def client = Mock(WorkerDaemonClient) {
+            isCompatibleWith(_) >> true
+            getLogLevel() >> LogLevel.DEBUG
+        }
+        starter.startDaemon(options) >> client
+
+        when:
+        manager.prewarm(options)
+        finished()
+
+        then:
+        manager.reserveIdleClient(options) == client
+    }
+
+    def "does not prewarm client when compatible client is idle"() {
+        def client = Mock(WorkerDaemonClient) {
+            isCompatibleWith(_) >> true
+        }
+        def starts = 0
+        starter.startDaemon(options) >> { starts++; client }
+        manager.reserveNewClient(options)
+        manager.release(client)
+
+        when:
+        manager.prewarm(options)
+        finished()
+
+        then:
+        starts == 1
+    }
+
+    def "prewarms session-scoped clients of the previous session when enabled"() {
+        listenerManager = new DefaultListenerManager(Scope.BuildSession)
+        manager = new WorkerDaemonClientsManager(starter, listenerManager, loggingManager, memoryManager, new MBeanOsMemoryInfo(new DefaultMBeanAttributeProvider()), executorFactory)
+        manager.setMaxPrewarmedDaemons(1)
+        def client = Mock(WorkerDaemonClient) {
+            getKeepAliveMode() >> KeepAliveMode.SESSION
+            getForkOptions() >> options
+        }
+        def prewarmed = Mock(WorkerDaemonClient) {
+            isCompatibleWith(_) >> true
+            getLogLevel() >> LogLevel.DEBUG
+        }
+        starter.startDaemon(options) >>> [client, prewarmed]
+        manager.reserveNewClient(options)
+
+        when:
+        listenerManager.getBroadcaster(BuildSessionLifecycleListener).beforeComplete()
+
+        then:
+        1 * client.stop()
+
+        when:
+        listenerManager.getBroadcaster(BuildSessionLifecycleListener).afterStart()
+        finished()
+
+        then:
+        manager.reserveIdleClient(options) == prewarmed
+    }
+
     def "registers/deregisters a worker daemon expiration with the memory manager"() {
         WorkerDaemonExpiration workerDaemonExpiration
 
         when:
-        def manager = new WorkerDaemonClientsManager(starter, listenerManager, loggingManager, memoryManager, new MBeanOsMemoryInfo(new DefaultMBeanAttributeProvider()))
+        def manager = new WorkerDaemonClientsManager(starter, listenerManager, loggingManager, memoryManager, new MBeanOsMemoryInfo(new DefaultMBeanAttributeProvider()), executorFactory)
 
         then:
         1 * memoryManager.addMemoryHolder(_) >> { args -> workerDaemonExpiration = args[0] }
@@ -18,14 +18,31 @@
 
 public class LeaseHolder {
     private final int maxWorkerCount;
+    private int leaseLimit;
     private int leasesInUse;
 
     public LeaseHolder(int maxWorkerCount) {
         this.maxWorkerCount = maxWorkerCount;
+        this.leaseLimit = maxWorkerCount;
+    }
+
+    public int getLeaseLimit() {
+        return leaseLimit;
+    }
+
+    /**
+     * Changes the number of leases that can be granted, clamped to between 1 and the maximum worker count.
+     * Leases that have already been granted are not revoked when the limit is lowered.
+     *
+     * @return the new limit.
+     */
+    public int setLeaseLimit(int limit) {
+        leaseLimit = Math.max(1, Math.min(maxWorkerCount, limit));
+        return leaseLimit;
     }
 
     public boolean grantLease() {
-        if (leasesInUse >= maxWorkerCount) {
+        if (leasesInUse >= leaseLimit) {
             return false;
         }
         leasesInUse++;
@@ -95,6 +95,35 @@ public int getMaxWorkerCount() {
         return workerLimits.getMaxWorkerCount();
     }
 
+    @Override
+    public int getWorkerLeaseLimit() {
+        return coordinationService.withStateLock(new Supplier<Integer>() {
+            @Override
+            public Integer get() {
+                return workerLeaseLockRegistry.root.getLeaseLimit();
+            }
+        });
+    }
+
+    @Override
+    public int setWorkerLeaseLimit(final int limit) {
+        return coordinationService.withStateLock(new Supplier<Integer>() {
+            @Override
+            public Integer get() {
+                int previous = workerLeaseLockRegistry.root.getLeaseLimit();
+                int newLimit = workerLeaseLockRegistry.root.setLeaseLimit(limit);
+                if (newLimit != previous) {
+                    LOGGER.info("Using {} worker leases (maximum {}).", newLimit, getMaxWorkerCount());
+                }
+                if (newLimit > previous) {
+                    // Wake up any threads waiting for a lease
+                    coordinationService.notifyStateChange();
+                }
+                return newLimit;
+            }
+        });
+    }
+
     @Override
     public WorkerLease getCurrentWorkerLease() {
         List<? extends WorkerLease> operations = workerLeaseLockRegistry.getResourceLocksByCurrentThread();
@@ -31,6 +31,19 @@ public interface WorkerLeaseService extends WorkerLeaseRegistry, ProjectLeaseReg
      */
     int getMaxWorkerCount();
 
+    /**
+     * Returns the number of worker leases that this service currently grants at any given time. This is always between 1 and {@link #getMaxWorkerCount()}.
+     */
+    int getWorkerLeaseLimit();
+
+    /**
+     * Changes the number of worker leases that this service grants at any given time. The value is clamped to between 1 and {@link #getMaxWorkerCount()}.
+     * Leases that have already been granted are not revoked when the limit is lowered, instead new leases are granted once enough leases have been released.
+     *
+     * @return the new limit.
+     */
+    int setWorkerLeaseLimit(int limit);
+
     /**
      * Runs a given {@link Factory} while the specified locks are being held, releasing
      * the locks upon completion.  Blocks until the specified locks can be obtained.
@@ -167,6 +167,81 @@ class DefaultWorkerLeaseServiceWorkerLeaseTest extends AbstractWorkerLeaseServic
         registry?.stop()
     }
 
+    def "worker lease limit is clamped to maximum worker count"() {
+        def registry = workerLeaseService(4)
+
+        expect:
+        registry.workerLeaseLimit == 4
+        registry.setWorkerLeaseLimit(2) == 2
+        registry.workerLeaseLimit == 2
+        registry.setWorkerLeaseLimit(0) == 1
+        registry.setWorkerLeaseLimit(12) == 4
+
+        cleanup:
+        registry?.stop()
+    }
+
+    def "worker start blocks when lease limit has been lowered"() {
+        def registry = workerLeaseService(2)
+        registry.setWorkerLeaseLimit(1)
+
+        when:
+        async {
+            start {
+                def cl = registry.startWorker()
+                instant.worker1
+                thread.block()
+                instant.worker1Finished
+                cl.leaseFinish()
+            }
+            start {
+                thread.blockUntil.worker1
+                def cl = registry.startWorker()
+                instant.worker2
+                cl.leaseFinish()
+            }
+        }
+
+        then:
+        instant.worker2 > instant.worker1Finished
+
+        cleanup:
+        registry?.stop()
+    }
+
+    def "blocked worker starts when lease limit is raised"() {
+        def registry = workerLeaseService(2)
+        registry.setWorkerLeaseLimit(1)
+
+        when:
+        async {
+            start {
+                def cl = registry.startWorker()
+                instant.worker1
+                thread.blockUntil.worker2
+                cl.leaseFinish()
+            }
+            start {
+                thread.blockUntil.worker1
+                def cl = registry.startWorker()
+                instant.worker2
+                cl.leaseFinish()
+            }
+            start {
+                thread.blockUntil.worker1
+                thread.block()
+                instant.limitRaised
+                registry.setWorkerLeaseLimit(2)
+            }
+        }
+
+        then:
+        instant.worker2 > instant.limitRaised
+
+        cleanup:
+        registry?.stop()
+    }
+
     def "can get lease for current thread"() {
         def registry = workerLeaseService(1)
 
@@ -106,6 +106,10 @@
  * The generation of trees can be very memory hungry and thus can be disabled with
  * {@code -Dorg.gradle.internal.operations.trace.tree=false}.
  * </p>
+ * With {@code -Dorg.gradle.internal.operations.trace.profile=true}, the CPU time and the bytes allocated by each operation
+ * are also written as «path-base»-cpu.folded and «path-base»-alloc.folded, in a format that flame graph tools accept.
+ * This attributes configuration time to the scripts, plugins and callbacks that run as build operations.
+ * <p>
  * The "trace" produced here is different to the trace produced by Gradle Profiler.
  * There, the focus is analyzing the performance profile.
  * Here, the focus is debugging/developing the information structure of build operations.
@@ -140,6 +144,13 @@ public class BuildOperationTrace implements Stoppable {
 
     private static final InternalFlag TRACE_TREE_OPTION = new InternalFlag(TREE_SYSPROP, true);
 
+    /**
+     * A flag controlling whether the CPU time and the allocations of each operation are profiled ({@code false} by default).
+     */
+    public static final String PROFILE_SYSPROP = SYSPROP + ".profile";
+
+    private static final InternalFlag PROFILE_OPTION = new InternalFlag(PROFILE_SYSPROP, false);
+
     /**
      * Delimiter for entries in {@link #FILTER_SYSPROP}.
      */
@@ -149,6 +160,7 @@ public class BuildOperationTrace implements Stoppable {
 
     private final boolean outputTree;
     private final BuildOperationListener listener;
+    private final ProfilingBuildOperationListener profilingListener;
     private final String basePath;
 
     private final OutputStream logOutputStream;
@@ -164,6 +176,7 @@ public BuildOperationTrace(StartParameter startParameter, BuildOperationListener
             this.logOutputStream = null;
             this.outputTree = false;
             this.listener = null;
+            this.profilingListener = null;
             this.objectMapper = null;
             return;
         }
@@ -194,6 +207,13 @@ public BuildOperationTrace(StartParameter startParameter, BuildOperationListener
         }
 
         buildOperationListenerManager.addListener(listener);
+
+        if (internalOptions.getOption(PROFILE_OPTION).get()) {
+            this.profilingListener = new ProfilingBuildOperationListener();
+            buildOperationListenerManager.addListener(profilingListener);
+        } else {
+            this.profilingListener = null;
+        }
     }
 
     @Nullable
@@ -209,6 +229,9 @@ private static Set<String> getFilter(InternalOptions internalOptions) {
     @Override
     public void stop() {
         buildOperationListenerManager.removeListener(listener);
+        if (profilingListener != null) {
+            buildOperationListenerManager.removeListener(profilingListener);
+        }
         if (logOutputStream != null) {
             try {
                 synchronized (logOutputStream) {
@@ -220,6 +243,10 @@ public void stop() {
                     writeDetailTree(roots);
                     writeSummaryTree(roots);
                 }
+
+                if (profilingListener != null) {
+                    profilingListener.write(file(basePath, "-cpu.folded").toPath(), file(basePath, "-alloc.folded").toPath());
+                }
             } catch (IOException e) {
                 throw UncheckedException.throwAsUncheckedException(e);
             }
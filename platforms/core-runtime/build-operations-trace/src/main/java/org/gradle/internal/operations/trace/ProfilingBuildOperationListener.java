@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.operations.trace;
+
+import org.gradle.internal.operations.BuildOperationDescriptor;
+import org.gradle.internal.operations.BuildOperationListener;
+import org.gradle.internal.operations.OperationFinishEvent;
+import org.gradle.internal.operations.OperationIdentifier;
+import org.gradle.internal.operations.OperationProgressEvent;
+import org.gradle.internal.operations.OperationStartEvent;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Attributes the CPU time and the bytes allocated by the current thread to the build operation that is running on it.
+ * <p>
+ * Costs are sampled when an operation starts and finishes.
+ * The cost of an operation excludes the cost of its children that ran on the same thread, so that plugin applications,
+ * script evaluations and callbacks show up as separate frames.
+ * Children that ran on other threads are reported under the operation, but not subtracted from it.
+ * <p>
+ * The results are written in the folded stack format, one line per stack, which can be rendered by flame graph tools.
+ */
+class ProfilingBuildOperationListener implements BuildOperationListener {
+
+    private final ThreadCosts threadCosts;
+
+    private final Map<Long, Sample> running = new ConcurrentHashMap<>();
+    private final Map<String, long[]> costsByStack = new ConcurrentHashMap<>();
+
+    ProfilingBuildOperationListener() {
+        this(new ThreadMXBeanCosts());
+    }
+
+    ProfilingBuildOperationListener(ThreadCosts threadCosts) {
+        this.threadCosts = threadCosts;
+    }
+
+    @Override
+    public void started(BuildOperationDescriptor buildOperation, OperationStartEvent startEvent) {
+        OperationIdentifier parentId = buildOperation.getParentId();
+        Sample parent = parentId == null ? null : running.get(parentId.getId());
+        running.put(buildOperation.getId().getId(), new Sample(parent, buildOperation.getDisplayName(), Thread.currentThread().getId(), cpuTime(), allocatedBytes()));
+    }
+
+    @Override
+    public void progress(OperationIdentifier operationIdentifier, OperationProgressEvent progressEvent) {
+    }
+
+    @Override
+    public void finished(BuildOperationDescriptor buildOperation, OperationFinishEvent finishEvent) {
+        Sample sample = running.remove(buildOperation.getId().getId());
+        if (sample == null || sample.threadId != Thread.currentThread().getId()) {
+            // Operations that finish on a different thread to the one they started on cannot be attributed
+            return;
+        }
+        long cpuTime = Math.max(0, cpuTime() - sample.startCpuTime);
+        long allocatedBytes = Math.max(0, allocatedBytes() - sample.startAllocatedBytes);
+
+        Sample parent = sample.parent;
+        if (parent != null && parent.threadId == sample.threadId) {
+            synchronized (parent) {
+                parent.childCpuTime += cpuTime;
+                parent.childAllocatedBytes += allocatedBytes;
+            }
+        }
+
+        long selfCpuTime;
+        long selfAllocatedBytes;
+        synchronized (sample) {
+            selfCpuTime = Math.max(0, cpuTime - sample.childCpuTime);
+            selfAllocatedBytes = Math.max(0, allocatedBytes - sample.childAllocatedBytes);
+        }
+        if (selfCpuTime == 0 && selfAllocatedBytes == 0) {
+            return;
+        }
+        long[] costs = costsByStack.computeIfAbsent(sample.stack(), stack -> new long[2]);
+        synchronized (costs) {
+            costs[0] += selfCpuTime;
+            costs[1] += selfAllocatedBytes;
+        }
+    }
+
+    /**
+     * Writes the CPU time in nanoseconds and the allocated bytes for each stack to the given files.
+     */
+    void write(Path cpuOutputPath, Path allocationOutputPath) throws IOException {
+        Map<String, long[]> sorted = new TreeMap<>(costsByStack);
+        if (threadCosts.isCpuTimeSupported()) {
+            write(sorted, 0, cpuOutputPath);
+        }
+        if (threadCosts.isAllocationSupported()) {
+            write(sorted, 1, allocationOutputPath);
+        }
+    }
+
+    private static void write(Map<String, long[]> costsByStack, int index, Path outputPath) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, long[]> entry : costsByStack.entrySet()) {
+                long value = entry.getValue()[index];
+                if (value > 0) {
+                    writer.write(entry.getKey());
+                    writer.write(' ');
+                    writer.write(Long.toString(value));
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private long cpuTime() {
+        return threadCosts.isCpuTimeSupported() ? threadCosts.currentThreadCpuTime() : 0;
+    }
+
+    private long allocatedBytes() {
+        return threadCosts.isAllocationSupported() ? threadCosts.currentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * Measures the costs incurred by the current thread so far.
+     */
+    interface ThreadCosts {
+        boolean isCpuTimeSupported();
+
+        boolean isAllocationSupported();
+
+        long currentThreadCpuTime();
+
+        long currentThreadAllocatedBytes();
+    }
+
+    private static class ThreadMXBeanCosts implements ThreadCosts {
+        private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        private final boolean cpuTimeSupported;
+        private final boolean allocationSupported;
+
+        ThreadMXBeanCosts() {
+            this.cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+            this.allocationSupported = threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled();
+        }
+
+        @Override
+        public boolean isCpuTimeSupported() {
+            return cpuTimeSupported;
+        }
+
+        @Override
+        public boolean isAllocationSupported() {
+            return allocationSupported;
+        }
+
+        @Override
+        public long currentThreadCpuTime() {
+            return threadMXBean.getCurrentThreadCpuTime();
+        }
+
+        @Override
+        public long currentThreadAllocatedBytes() {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+    }
+
+    private static class Sample {
+        @Nullable
+        final Sample parent;
+        final String displayName;
+        final long threadId;
+        final long startCpuTime;
+        final long startAllocatedBytes;
+
+        long childCpuTime;
+        long childAllocatedBytes;
+
+        Sample(@Nullable Sample parent, String displayName, long threadId, long startCpuTime, long startAllocatedBytes) {
+            this.parent = parent;
+            this.displayName = displayName;
+            this.threadId = threadId;
+            this.startCpuTime = startCpuTime;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        String stack() {
+            StringBuilder builder = new StringBuilder();
+            appendStack(builder);
+            return builder.toString();
+        }
+
+        private void appendStack(StringBuilder builder) {
+            if (parent != null) {
+                parent.appendStack(builder);
+                builder.append(';');
+            }
+            // The folded format uses ';' to separate frames and a space before the value
+            for (int i = 0; i < displayName.length(); i++) {
+                char c = displayName.charAt(i);
+                builder.append(c == ';' || c == '\n' || c == '\r' ? ' ' : c);
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.operations.trace
+
+import org.gradle.internal.operations.BuildOperationDescriptor
+import org.gradle.internal.operations.OperationFinishEvent
+import org.gradle.internal.operations.OperationIdentifier
+import org.gradle.internal.operations.OperationStartEvent
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.ConcurrentHashMap
+
+class ProfilingBuildOperationListenerTest extends Specification {
+    @TempDir
+    Path tempDir
+
+    def costs = new FakeThreadCosts()
+    def listener = new ProfilingBuildOperationListener(costs)
+
+    def "subtracts the costs of children on the same thread from their parent"() {
+        def root = operation(1, "root")
+        def child = operation(2, 1, "child")
+        def grandChild = operation(3, 2, "grand child")
+
+        when:
+        start(root)
+        costs.spend(10, 100)
+        start(child)
+        costs.spend(5, 50)
+        start(grandChild)
+        costs.spend(2, 20)
+        finish(grandChild)
+        costs.spend(1, 10)
+        finish(child)
+        costs.spend(3, 30)
+        finish(root)
+
+        then:
+        cpuStacks() == [
+            "root 13",
+            "root;child 6",
+            "root;child;grand child 2"
+        ]
+        allocationStacks() == [
+            "root 130",
+            "root;child 60",
+            "root;child;grand child 20"
+        ]
+    }
+
+    def "does not subtract the costs of children on other threads from their parent"() {
+        def root = operation(1, "root")
+        def child = operation(2, 1, "child")
+
+        when:
+        start(root)
+        costs.spend(10, 100)
+        def thread = Thread.start {
+            start(child)
+            costs.spend(5, 50)
+            finish(child)
+        }
+        thread.join()
+        costs.spend(1, 10)
+        finish(root)
+
+        then:
+        cpuStacks() == [
+            "root 11",
+            "root;child 5"
+        ]
+        allocationStacks() == [
+            "root 110",
+            "root;child 50"
+        ]
+    }
+
+    def "sums the costs of operations with the same stack"() {
+        def root = operation(1, "root")
+
+        when:
+        start(root)
+        [2, 3].each { id ->
+            def child = operation(id, 1, "child")
+            start(child)
+            costs.spend(4, 40)
+            finish(child)
+        }
+        finish(root)
+
+        then:
+        cpuStacks() == ["root;child 8"]
+        allocationStacks() == ["root;child 80"]
+    }
+
+    def "replaces separators in display names"() {
+        def root = operation(1, "a;b\nc")
+
+        when:
+        start(root)
+        costs.spend(1, 1)
+        finish(root)
+
+        then:
+        cpuStacks() == ["a b c 1"]
+    }
+
+    def "ignores operations that finish on another thread"() {
+        def root = operation(1, "root")
+
+        when:
+        start(root)
+        costs.spend(1, 1)
+        Thread.start { finish(root) }.join()
+
+        then:
+        cpuStacks() == []
+        allocationStacks() == []
+    }
+
+    def "does not write costs that are not supported"() {
+        costs.allocationSupported = false
+        def root = operation(1, "root")
+
+        when:
+        start(root)
+        costs.spend(1, 1)
+        finish(root)
+        listener.write(tempDir.resolve("cpu.folded"), tempDir.resolve("allocation.folded"))
+
+        then:
+        Files.readAllLines(tempDir.resolve("cpu.folded")) == ["root 1"]
+        !Files.exists(tempDir.resolve("allocation.folded"))
+    }
+
+    private static BuildOperationDescriptor operation(long id, String displayName) {
+        return BuildOperationDescriptor.displayName(displayName).build(new OperationIdentifier(id), null)
+    }
+
+    private static BuildOperationDescriptor operation(long id, long parentId, String displayName) {
+        return BuildOperationDescriptor.displayName(displayName).build(new OperationIdentifier(id), new OperationIdentifier(parentId))
+    }
+
+    private void start(BuildOperationDescriptor operation) {
+        listener.started(operation, new OperationStartEvent(0))
+    }
+
+    private void finish(BuildOperationDescriptor operation) {
+        listener.finished(operation, new OperationFinishEvent(0, 0, null, null))
+    }
+
+    private List<String> cpuStacks() {
+        write()
+        return Files.readAllLines(tempDir.resolve("cpu.folded"))
+    }
+
+    private List<String> allocationStacks() {
+        write()
+        return Files.readAllLines(tempDir.resolve("allocation.folded"))
+    }
+
+    private void write() {
+        listener.write(tempDir.resolve("cpu.folded"), tempDir.resolve("allocation.folded"))
+    }
+
+    static class FakeThreadCosts implements ProfilingBuildOperationListener.ThreadCosts {
+        private final Map<Long, long[]> costsByThread = new ConcurrentHashMap<>()
+        boolean cpuTimeSupported = true
+        boolean allocationSupported = true
+
+        void spend(long cpuTime, long allocatedBytes) {
+            def costs = current()
+            costs[0] += cpuTime
+            costs[1] += allocatedBytes
+        }
+
+        @Override
+        boolean isCpuTimeSupported() {
+            return cpuTimeSupported
+        }
+
+        @Override
+        boolean isAllocationSupported() {
+            return allocationSupported
+        }
+
+        @Override
+        long currentThreadCpuTime() {
+            return current()[0]
+        }
+
+        @Override
+        long currentThreadAllocatedBytes() {
+            return current()[1]
+        }
+
+        private long[] current() {
+            return costsByThread.computeIfAbsent(Thread.currentThread().id) { new long[2] }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.gradle.internal.daemon.client.execution.ClientBuildRequestContext
 import org.gradle.internal.id.UUIDGenerator
 import org.gradle.internal.invocation.BuildAction
 import org.gradle.internal.logging.console.GlobalUserInputReceiver
+import org.gradle.internal.logging.events.OutputEvent
 import org.gradle.internal.logging.events.OutputEventListener
 import org.gradle.internal.nativeintegration.ProcessEnvironment
 import org.gradle.launcher.daemon.context.DaemonCompatibilitySpec
@@ -34,6 +35,8 @@ import org.gradle.launcher.daemon.protocol.CloseInput
 import org.gradle.launcher.daemon.protocol.DaemonUnavailable
 import org.gradle.launcher.daemon.protocol.Failure
 import org.gradle.launcher.daemon.protocol.Finished
+import org.gradle.launcher.daemon.protocol.OutputMessage
+import org.gradle.launcher.daemon.protocol.OutputMessageBatch
 import org.gradle.launcher.daemon.protocol.Success
 import org.gradle.launcher.daemon.server.api.DaemonStoppedException
 import org.gradle.launcher.exec.BuildActionParameters
@@ -69,6 +72,29 @@ class DaemonClientTest extends ConcurrentSpecification {
         0 * _
     }
 
+    def "forwards each event of an output batch to the output listener"() {
+        def resultMessage = Stub(BuildActionResult)
+        def event1 = Stub(OutputEvent)
+        def event2 = Stub(OutputEvent)
+        def event3 = Stub(OutputEvent)
+        connector.connect(compatibilitySpec) >> connection
+        connection.daemon >> Stub(DaemonConnectDetails)
+        connection.receive() >>> [Stub(BuildStarted), new OutputMessageBatch([event1, event2]), new OutputMessage(event3), new Success(resultMessage)]
+
+        when:
+        def result = client.execute(Stub(BuildAction), Stub(BuildActionParameters), Stub(ClientBuildRequestContext))
+
+        then:
+        result == resultMessage
+        1 * outputEventListener.onOutput(event1)
+
+        then:
+        1 * outputEventListener.onOutput(event2)
+
+        then:
+        1 * outputEventListener.onOutput(event3)
+    }
+
     def "rethrows failure to execute action"() {
         RuntimeException failure = new RuntimeException()
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.protocol;
+
+import org.gradle.api.logging.LogLevel;
+import org.gradle.internal.logging.events.OutputEvent;
+import org.gradle.internal.logging.events.StyledTextOutputEvent;
+import org.gradle.internal.remote.internal.KryoBackedMessageSerializer;
+import org.gradle.internal.remote.internal.inet.SocketConnection;
+import org.gradle.internal.serialize.DefaultSerializer;
+import org.gradle.internal.serialize.Serializer;
+import org.gradle.internal.serialize.Serializers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Sends a stream of small output events from a "daemon" to a "client" over a loopback socket, as a chatty build with verbose test logging would.
+ * A batch size of 1 matches sending one message per event.
+ */
+@SuppressWarnings("Since15")
+@Threads(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class OutputEventDispatchBenchmark {
+    private static final int EVENT_COUNT = 10000;
+
+    @Param({"1", "64", "512"})
+    int batchSize;
+
+    private final Semaphore received = new Semaphore(0);
+    private final List<OutputEvent> events = new ArrayList<>(EVENT_COUNT);
+    private ServerSocketChannel serverChannel;
+    private SocketConnection<Message> daemonSide;
+    private SocketConnection<Message> clientSide;
+    private Thread receiver;
+
+    @Setup
+    public void setup() throws IOException {
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events.add(new StyledTextOutputEvent(i, "org.gradle.api.Test", LogLevel.LIFECYCLE, null, "    Test" + i + " > testMethod" + i + "() PASSED\n"));
+        }
+
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        SocketChannel daemonChannel = SocketChannel.open(serverChannel.getLocalAddress());
+        SocketChannel clientChannel = serverChannel.accept();
+        daemonChannel.configureBlocking(false);
+        clientChannel.configureBlocking(false);
+
+        Serializer<Message> serializer = DaemonMessageSerializer.create(new DefaultSerializer<>());
+        daemonSide = new SocketConnection<>(daemonChannel, new KryoBackedMessageSerializer(), Serializers.stateful(serializer));
+        clientSide = new SocketConnection<>(clientChannel, new KryoBackedMessageSerializer(), Serializers.stateful(serializer));
+
+        receiver = new Thread(() -> {
+            Message message;
+            while ((message = clientSide.receive()) != null) {
+                if (message instanceof Finished) {
+                    received.release();
+                }
+            }
+        }, "Benchmark client");
+        receiver.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        daemonSide.stop();
+        receiver.join();
+        clientSide.stop();
+        serverChannel.close();
+    }
+
+    @Benchmark
+    public void dispatchOutputEvents() throws InterruptedException {
+        if (batchSize == 1) {
+            for (OutputEvent event : events) {
+                daemonSide.dispatch(new OutputMessage(event));
+                daemonSide.flush();
+            }
+        } else {
+            for (int start = 0; start < EVENT_COUNT; start += batchSize) {
+                daemonSide.dispatch(new OutputMessageBatch(events.subList(start, Math.min(start + batchSize, EVENT_COUNT))));
+                daemonSide.flush();
+            }
+        }
+        daemonSide.dispatch(new Finished());
+        daemonSide.flush();
+        received.acquire();
+    }
+}
@@ -59,6 +59,19 @@ class DaemonMessageSerializerTest extends SerializerSpec {
         result.newLogLevel == LogLevel.LIFECYCLE
     }
 
+    def "can serialize batches of output events"() {
+        expect:
+        def message = new OutputMessageBatch([new LogLevelChangeEvent(LogLevel.LIFECYCLE), new UserInputResumeEvent(123), new LogLevelChangeEvent(LogLevel.DEBUG)])
+        def result = serialize(message, serializer)
+        result instanceof OutputMessageBatch
+        result.events.size() == 3
+        result.events[0] instanceof LogLevelChangeEvent
+        result.events[0].newLogLevel == LogLevel.LIFECYCLE
+        result.events[1] instanceof UserInputResumeEvent
+        result.events[1].timestamp == 123
+        result.events[2].newLogLevel == LogLevel.DEBUG
+    }
+
     def "can serialize Success message"() {
         expect:
         def message = new Success("result")
@@ -20,6 +20,7 @@
 import org.gradle.internal.dispatch.Receive;
 import org.gradle.internal.remote.internal.RemoteConnection;
 import org.gradle.launcher.daemon.protocol.OutputMessage;
+import org.gradle.launcher.daemon.protocol.OutputMessageBatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,7 +43,7 @@ public SynchronizedDispatchConnection(RemoteConnection<T> delegate) {
     }
 
     public void dispatchAndFlush(T message) {
-        if (!(message instanceof OutputMessage)) {
+        if (!(message instanceof OutputMessage) && !(message instanceof OutputMessageBatch)) {
             LOGGER.debug("thread {}: dispatching {}", Thread.currentThread().getId(), message);
         }
         lock.lock();
@@ -24,6 +24,7 @@
 import org.gradle.launcher.daemon.protocol.Result;
 import org.jspecify.annotations.Nullable;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public interface DaemonConnection extends Stoppable {
@@ -86,6 +87,11 @@ public interface DaemonConnection extends Stoppable {
      */
     void logEvent(OutputEvent logEvent);
 
+    /**
+     * Dispatches several log event messages to the client as a single message, preserving their order.
+     */
+    void logEvents(List<OutputEvent> logEvents);
+
     /**
      * Dispatches some build event to the client.
      */
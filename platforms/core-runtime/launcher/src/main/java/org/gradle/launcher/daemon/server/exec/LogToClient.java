@@ -30,6 +30,8 @@
 import org.gradle.launcher.daemon.server.api.DaemonCommandExecution;
 import org.gradle.launcher.daemon.server.api.DaemonConnection;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
@@ -37,6 +39,11 @@
 public class LogToClient extends BuildCommandOnly {
 
     public static final String DISABLE_OUTPUT = "org.gradle.daemon.disable-output";
+
+    /**
+     * The maximum number of queued events that are sent to the client in a single message.
+     */
+    static final int MAX_EVENTS_PER_MESSAGE = 512;
     private static final Logger LOGGER = Logging.getLogger(LogToClient.class);
 
     private final LoggingOutputInternal loggingOutput;
@@ -103,11 +110,9 @@ public void submit(OutputEvent event) {
         public void run() {
             try {
                 while (!shouldStop) {
-                    OutputEvent event = eventQueue.poll();
-                    if (event == null) {
+                    // Events queued while the previous message was being sent, or during the sleep, are coalesced into one message
+                    if (!dispatchQueuedEvents()) {
                         Thread.sleep(10);
-                    } else {
-                        dispatchAsync(event);
                     }
                 }
             } catch (InterruptedException ex) {
@@ -121,10 +126,33 @@ public void run() {
         }
 
         private void sendRemainingEvents() {
-            OutputEvent event;
-            while ((event = eventQueue.poll()) != null) {
+            while (dispatchQueuedEvents()) {
+                // Keep going until the queue is drained
+            }
+        }
+
+        /**
+         * Sends up to {@link #MAX_EVENTS_PER_MESSAGE} queued events to the client.
+         *
+         * @return true if any events were taken from the queue.
+         */
+        private boolean dispatchQueuedEvents() {
+            OutputEvent event = eventQueue.poll();
+            if (event == null) {
+                return false;
+            }
+            OutputEvent next = eventQueue.poll();
+            if (next == null) {
                 dispatchAsync(event);
+                return true;
             }
+            List<OutputEvent> events = new ArrayList<OutputEvent>();
+            events.add(event);
+            do {
+                events.add(next);
+            } while (events.size() < MAX_EVENTS_PER_MESSAGE && (next = eventQueue.poll()) != null);
+            dispatchAsync(events);
+            return true;
         }
 
         private void dispatchAsync(OutputEvent event) {
@@ -141,6 +169,20 @@ private void dispatchAsync(OutputEvent event) {
             }
         }
 
+        private void dispatchAsync(List<OutputEvent> events) {
+            if (unableToSend) {
+                return;
+            }
+            try {
+                connection.logEvents(events);
+            } catch (Exception ex) {
+                shouldStop = true;
+                unableToSend = true;
+                //Ignore. It means the client has disconnected so no point sending him any log output.
+                //we should be checking if client still listens elsewhere anyway.
+            }
+        }
+
         public void waitForCompletion() {
             loggingOutput.removeOutputEventListener(listener);
             shouldStop = true;
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.server.exec
+
+import org.gradle.api.logging.LogLevel
+import org.gradle.internal.logging.LoggingOutputInternal
+import org.gradle.internal.logging.events.LogEvent
+import org.gradle.internal.logging.events.OutputEvent
+import org.gradle.internal.logging.events.OutputEventListener
+import org.gradle.launcher.daemon.diagnostics.DaemonDiagnostics
+import org.gradle.launcher.daemon.protocol.Build
+import org.gradle.launcher.daemon.server.api.DaemonCommandExecution
+import org.gradle.launcher.daemon.server.api.DaemonConnection
+import org.gradle.launcher.exec.BuildActionParameters
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+
+class LogToClientTest extends Specification {
+    def loggingOutput = Mock(LoggingOutputInternal)
+    def connection = Mock(DaemonConnection)
+    def execution = Stub(DaemonCommandExecution)
+    def logToClient = new LogToClient(loggingOutput, new DaemonDiagnostics(new File("daemon.log"), 123L))
+    OutputEventListener listener
+
+    def setup() {
+        _ * loggingOutput.addOutputEventListener(_) >> { OutputEventListener l -> listener = l }
+        execution.connection >> connection
+        execution.command >> Stub(Build) {
+            getParameters() >> Stub(BuildActionParameters) {
+                getLogLevel() >> LogLevel.LIFECYCLE
+            }
+        }
+    }
+
+    def "sends a single pending event as a plain message"() {
+        def event = event("message")
+        execution.proceed() >> { listener.onOutput(event) }
+
+        when:
+        logToClient.execute(execution)
+
+        then:
+        1 * connection.logEvent(event)
+        0 * connection.logEvents(_)
+    }
+
+    def "sends events queued while a message is sent in batches of at most 512 events, preserving their order"() {
+        def first = event("first")
+        def queued = (1..1200).collect { event("event $it") }
+        def sending = new CountDownLatch(1)
+        def allQueued = new CountDownLatch(1)
+        def batches = []
+        execution.proceed() >> {
+            listener.onOutput(first)
+            sending.await()
+            queued.each { listener.onOutput(it) }
+            allQueued.countDown()
+        }
+
+        when:
+        logToClient.execute(execution)
+
+        then:
+        1 * connection.logEvent(first) >> {
+            sending.countDown()
+            allQueued.await()
+        }
+        3 * connection.logEvents(_) >> { List<OutputEvent> events -> batches << new ArrayList<OutputEvent>(events) }
+        0 * connection.logEvent(_)
+
+        and:
+        batches*.size() == [512, 512, 176]
+        batches.flatten() == queued
+    }
+
+    def "sends every event queued before the build completes, in order"() {
+        def events = (1..2000).collect { event("event $it") }
+        def sent = []
+        connection.logEvent(_) >> { OutputEvent event -> sent << event }
+        connection.logEvents(_) >> { List<OutputEvent> batch -> sent.addAll(batch) }
+        execution.proceed() >> { events.each { listener.onOutput(it) } }
+
+        when:
+        logToClient.execute(execution)
+
+        then:
+        sent == events
+    }
+
+    def "stops sending events once sending to the client fails"() {
+        def first = event("first")
+        def failed = new CountDownLatch(1)
+        execution.proceed() >> {
+            listener.onOutput(first)
+            failed.await()
+            listener.onOutput(event("second"))
+            listener.onOutput(event("third"))
+        }
+
+        when:
+        logToClient.execute(execution)
+
+        then:
+        1 * connection.logEvent(first) >> {
+            failed.countDown()
+            throw new RuntimeException("client disconnected")
+        }
+        0 * connection.logEvent(_)
+        0 * connection.logEvents(_)
+    }
+
+    private static LogEvent event(String message) {
+        return new LogEvent(0, "category", LogLevel.LIFECYCLE, message, null)
+    }
+}
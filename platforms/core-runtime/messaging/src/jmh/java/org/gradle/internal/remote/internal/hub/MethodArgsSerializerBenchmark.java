@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.remote.internal.hub;
+
+import org.gradle.internal.serialize.ReflectiveSerializerFactory;
+import org.gradle.internal.serialize.Serializer;
+import org.gradle.internal.serialize.kryo.KryoBackedDecoder;
+import org.gradle.internal.serialize.kryo.KryoBackedEncoder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.Serializable;
+
+/**
+ * Compares the CPU cost and the bytes on the wire of sending a typical worker response with Java serialization and with field based serializers.
+ */
+@SuppressWarnings("Since15")
+@Threads(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class MethodArgsSerializerBenchmark {
+    private static final Class<?>[] PARAMETER_TYPES = {Object.class};
+
+    @Param({"java", "reflective"})
+    String serializerType;
+
+    private final Object[] args = {new WorkResponse("org.example.SomeWorkAction", new File("/some/output/file.txt"), 1234L, true, null)};
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private Serializer<Object[]> serializer;
+
+    @Setup
+    public void setup() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        MethodArgsSerializer javaSerialization = new JavaSerializationBackedMethodArgsSerializer(classLoader);
+        MethodArgsSerializer methodArgsSerializer = serializerType.equals("java")
+            ? javaSerialization
+            : new ReflectiveMethodArgsSerializer(new ReflectiveSerializerFactory(classLoader), classLoader, javaSerialization);
+        serializer = methodArgsSerializer.forTypes(PARAMETER_TYPES);
+    }
+
+    @Benchmark
+    public Object[] roundTrip(BytesOnWire bytesOnWire) throws Exception {
+        outputStream.reset();
+        KryoBackedEncoder encoder = new KryoBackedEncoder(outputStream);
+        serializer.write(encoder, args);
+        encoder.flush();
+        bytesOnWire.bytes = outputStream.size();
+        return serializer.read(new KryoBackedDecoder(new ByteArrayInputStream(outputStream.toByteArray())));
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class BytesOnWire {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    public static final class WorkResponse implements Serializable {
+        private final String actionClassName;
+        private final File outputFile;
+        private final long durationMillis;
+        private final boolean didWork;
+        private final Throwable failure;
+
+        public WorkResponse(String actionClassName, File outputFile, long durationMillis, boolean didWork, Throwable failure) {
+            this.actionClassName = actionClassName;
+            this.outputFile = outputFile;
+            this.durationMillis = durationMillis;
+            this.didWork = didWork;
+            this.failure = failure;
+        }
+    }
+}
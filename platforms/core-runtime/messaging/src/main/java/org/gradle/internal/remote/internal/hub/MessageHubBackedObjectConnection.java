@@ -34,6 +34,7 @@
 import org.gradle.internal.remote.internal.ConnectCompletion;
 import org.gradle.internal.remote.internal.RemoteConnection;
 import org.gradle.internal.remote.internal.hub.protocol.InterHubMessage;
+import org.gradle.internal.serialize.ReflectiveSerializerFactory;
 import org.gradle.internal.serialize.SerializerRegistry;
 import org.gradle.internal.serialize.StatefulSerializer;
 import org.gradle.internal.serialize.kryo.TypeSafeSerializer;
@@ -125,7 +126,9 @@ public void connect() {
         } else {
             methodParamClassLoader = new CachingClassLoader(new MultiParentClassLoader(methodParamClassLoaders));
         }
-        MethodArgsSerializer argsSerializer = new DefaultMethodArgsSerializer(paramSerializers, new JavaSerializationBackedMethodArgsSerializer(methodParamClassLoader));
+        MethodArgsSerializer javaSerialization = new JavaSerializationBackedMethodArgsSerializer(methodParamClassLoader);
+        MethodArgsSerializer argsSerializer = new DefaultMethodArgsSerializer(paramSerializers,
+            new ReflectiveMethodArgsSerializer(new ReflectiveSerializerFactory(methodParamClassLoader), methodParamClassLoader, javaSerialization));
 
         StatefulSerializer<InterHubMessage> serializer = new InterHubMessageSerializer(
             new TypeSafeSerializer<MethodInvocation>(MethodInvocation.class,
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.remote.internal.hub;
+
+import org.gradle.internal.Cast;
+import org.gradle.internal.serialize.Decoder;
+import org.gradle.internal.serialize.Encoder;
+import org.gradle.internal.serialize.Message;
+import org.gradle.internal.serialize.ReflectiveSerializerFactory;
+import org.gradle.internal.serialize.Serializer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializes method arguments using the field based serializers of {@link ReflectiveSerializerFactory}, using Java serialization only for values that are not supported.
+ *
+ * <p>Arguments declared with a closed type are written directly. Arguments declared with an open type, such as {@code Object}, are written with the name of their runtime type.
+ * When a closed parameter type is not supported, all arguments of the method are written by the fallback serializer.</p>
+ *
+ * <p>Unlike Java serialization, object identity is not preserved between arguments, which is fine for the immutable value types sent as messages.</p>
+ */
+class ReflectiveMethodArgsSerializer implements MethodArgsSerializer {
+    private static final byte NULL = 0;
+    private static final byte FIELD_BASED = 1;
+    private static final byte JAVA_SERIALIZATION = 2;
+
+    private final ReflectiveSerializerFactory serializerFactory;
+    private final ClassLoader classLoader;
+    private final MethodArgsSerializer fallback;
+
+    public ReflectiveMethodArgsSerializer(ReflectiveSerializerFactory serializerFactory, ClassLoader classLoader, MethodArgsSerializer fallback) {
+        this.serializerFactory = serializerFactory;
+        this.classLoader = classLoader;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Serializer<Object[]> forTypes(Class<?>[] types) {
+        if (types.length == 0) {
+            return fallback.forTypes(types);
+        }
+        Serializer<Object>[] serializers = Cast.uncheckedNonnullCast(new Serializer<?>[types.length]);
+        for (int i = 0; i < types.length; i++) {
+            Class<?> type = types[i];
+            if (ReflectiveSerializerFactory.isClosedType(type)) {
+                Serializer<?> serializer = serializerFactory.serializerFor(type);
+                if (serializer == null) {
+                    return fallback.forTypes(types);
+                }
+                serializers[i] = new NullSafeSerializer(Cast.uncheckedNonnullCast(serializer));
+            } else {
+                serializers[i] = new RuntimeTypeSerializer();
+            }
+        }
+        return new ArraySerializer(serializers);
+    }
+
+    private static class ArraySerializer implements Serializer<Object[]> {
+        private final Serializer<Object>[] serializers;
+
+        ArraySerializer(Serializer<Object>[] serializers) {
+            this.serializers = serializers;
+        }
+
+        @Override
+        public Object[] read(Decoder decoder) throws Exception {
+            Object[] result = new Object[serializers.length];
+            for (int i = 0; i < serializers.length; i++) {
+                result[i] = serializers[i].read(decoder);
+            }
+            return result;
+        }
+
+        @Override
+        public void write(Encoder encoder, Object[] value) throws Exception {
+            for (int i = 0; i < value.length; i++) {
+                serializers[i].write(encoder, value[i]);
+            }
+        }
+    }
+
+    private static class NullSafeSerializer implements Serializer<Object> {
+        private final Serializer<Object> serializer;
+
+        NullSafeSerializer(Serializer<Object> serializer) {
+            this.serializer = serializer;
+        }
+
+        @Override
+        public Object read(Decoder decoder) throws Exception {
+            return decoder.readBoolean() ? serializer.read(decoder) : null;
+        }
+
+        @Override
+        public void write(Encoder encoder, Object value) throws Exception {
+            if (value == null) {
+                encoder.writeBoolean(false);
+            } else {
+                encoder.writeBoolean(true);
+                serializer.write(encoder, value);
+            }
+        }
+    }
+
+    /**
+     * Chooses the serializer based on the runtime type of each value.
+     * The type name is written once per value; the serializers are cached by both ends of the connection.
+     */
+    private class RuntimeTypeSerializer implements Serializer<Object> {
+        private final Map<String, Serializer<Object>> serializersByTypeName = new ConcurrentHashMap<>();
+
+        @Override
+        public Object read(Decoder decoder) throws Exception {
+            byte tag = decoder.readByte();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case FIELD_BASED:
+                    String typeName = decoder.readString();
+                    Serializer<Object> serializer = serializersByTypeName.get(typeName);
+                    if (serializer == null) {
+                        serializer = serializerFactory.serializerFor(Cast.<Class<Object>>uncheckedNonnullCast(Class.forName(typeName, false, classLoader)));
+                        if (serializer == null) {
+                            throw new IllegalStateException(String.format("Cannot read an argument of type %s.", typeName));
+                        }
+                        serializersByTypeName.put(typeName, serializer);
+                    }
+                    return serializer.read(decoder);
+                case JAVA_SERIALIZATION:
+                    return Message.receive(decoder.getInputStream(), classLoader);
+                default:
+                    throw new IllegalArgumentException(String.format("Unexpected argument tag %d found.", tag));
+            }
+        }
+
+        @Override
+        public void write(Encoder encoder, Object value) throws Exception {
+            if (value == null) {
+                encoder.writeByte(NULL);
+                return;
+            }
+            // Throwables go through Java serialization, so that types the receiver cannot load are replaced by placeholders
+            Serializer<Object> serializer = value instanceof Throwable ? null : serializerFactory.serializerFor(Cast.<Class<Object>>uncheckedNonnullCast(value.getClass()));
+            if (serializer == null) {
+                encoder.writeByte(JAVA_SERIALIZATION);
+                Message.send(value, encoder.getOutputStream());
+            } else {
+                encoder.writeByte(FIELD_BASED);
+                encoder.writeString(value.getClass().getName());
+                serializer.write(encoder, value);
+            }
+        }
+    }
+}
@@ -251,27 +251,33 @@ public void write(byte[] src, int offset, int max) throws IOException {
                     remaining -= count;
                     currentPos += count;
                 }
-                while (buffer.remaining() == 0) {
-                    writeBufferToChannel();
+                if (buffer.remaining() == 0) {
+                    drainBufferToChannel();
                 }
             }
         }
 
         @Override
         public void flush() throws IOException {
-            while (buffer.position() > 0) {
-                writeBufferToChannel();
+            if (buffer.position() > 0) {
+                drainBufferToChannel();
             }
         }
 
-        private void writeBufferToChannel() throws IOException {
+        /**
+         * Writes the entire content of the direct buffer to the channel, and then resets the buffer.
+         * The buffer is drained in place rather than compacted after each partial write, so the pending bytes are never copied around inside the buffer.
+         */
+        private void drainBufferToChannel() throws IOException {
             BufferCaster.cast(buffer).flip();
-            int count = writeWithNonBlockingRetry();
-            if (count == 0) {
-                // buffer was still full after non-blocking retries, now block
-                waitForWriteBufferToDrain();
+            while (buffer.hasRemaining()) {
+                int count = writeWithNonBlockingRetry();
+                if (count == 0) {
+                    // buffer was still full after non-blocking retries, now block
+                    waitForWriteBufferToDrain();
+                }
             }
-            buffer.compact();
+            BufferCaster.cast(buffer).clear();
         }
 
         @SuppressWarnings("ThreadPriorityCheck")
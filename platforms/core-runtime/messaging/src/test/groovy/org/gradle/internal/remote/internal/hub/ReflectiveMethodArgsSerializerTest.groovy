@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.remote.internal.hub
+
+import org.gradle.internal.serialize.ReflectiveSerializerFactory
+import org.gradle.internal.serialize.Serializer
+import org.gradle.internal.serialize.SerializerSpec
+
+class ReflectiveMethodArgsSerializerTest extends SerializerSpec {
+    def classLoader = getClass().classLoader
+    def fallback = Mock(MethodArgsSerializer)
+    def serializer = new ReflectiveMethodArgsSerializer(new ReflectiveSerializerFactory(classLoader), classLoader, fallback)
+
+    def "serializes args of closed types using field based serializers"() {
+        when:
+        def arraySerializer = serializer.forTypes([String, Long, Result] as Class[])
+        def result = serialize(["a", null, new Result("done", 3)] as Object[], arraySerializer)
+
+        then:
+        result[0] == "a"
+        result[1] == null
+        result[2] instanceof Result
+        result[2].name == "done"
+        result[2].count == 3
+        0 * fallback._
+    }
+
+    def "serializes args of open types using the runtime type of each value"() {
+        when:
+        def arraySerializer = serializer.forTypes([Object] as Class[])
+
+        then:
+        serialize([new Result("done", 3)] as Object[], arraySerializer)[0].count == 3
+        serialize([[1, 2, 3]] as Object[], arraySerializer)[0] == [1, 2, 3]
+        serialize([new RuntimeException("broken")] as Object[], arraySerializer)[0].message == "broken"
+        serialize([null] as Object[], arraySerializer)[0] == null
+        0 * fallback._
+    }
+
+    def "writes values of supported types more compactly than Java serialization"() {
+        def arraySerializer = serializer.forTypes([Object] as Class[])
+        def javaSerializer = new JavaSerializationBackedMethodArgsSerializer(classLoader).forTypes([Object] as Class[])
+        def args = [new Result("done", 3)] as Object[]
+
+        expect:
+        toBytes(args, arraySerializer).length * 4 < toBytes(args, javaSerializer).length
+    }
+
+    def "uses fallback when a closed parameter type is not supported"() {
+        def fallbackSerializer = Stub(Serializer)
+
+        when:
+        def arraySerializer = serializer.forTypes([String, Unsupported] as Class[])
+
+        then:
+        arraySerializer == fallbackSerializer
+        1 * fallback.forTypes([String, Unsupported] as Class[]) >> fallbackSerializer
+    }
+
+    static class Result implements Serializable {
+        final String name
+        final int count
+
+        Result(String name, int count) {
+            this.name = name
+            this.count = count
+        }
+    }
+
+    static final class Unsupported implements Serializable {
+        List<String> values
+    }
+}
@@ -0,0 +1,465 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.serialize;
+
+import org.gradle.internal.Cast;
+import org.jspecify.annotations.Nullable;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.Externalizable;
+import java.io.File;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.gradle.internal.serialize.BaseSerializerFactory.BOOLEAN_SERIALIZER;
+import static org.gradle.internal.serialize.BaseSerializerFactory.BYTE_ARRAY_SERIALIZER;
+import static org.gradle.internal.serialize.BaseSerializerFactory.BYTE_SERIALIZER;
+import static org.gradle.internal.serialize.BaseSerializerFactory.CHAR_SERIALIZER;
+import static org.gradle.internal.serialize.BaseSerializerFactory.DOUBLE_SERIALIZER;
+import static org.gradle.internal.serialize.BaseSerializerFactory.FILE_SERIALIZER;
+import static org.gradle.internal.serialize.BaseSerializerFactory.FLOAT_SERIALIZER;
+import static org.gradle.internal.serialize.BaseSerializerFactory.INTEGER_SERIALIZER;
+import static org.gradle.internal.serialize.BaseSerializerFactory.LONG_SERIALIZER;
+import static org.gradle.internal.serialize.BaseSerializerFactory.SHORT_SERIALIZER;
+import static org.gradle.internal.serialize.BaseSerializerFactory.STRING_SERIALIZER;
+
+/**
+ * Creates {@link Serializer} implementations for simple message types by reflecting over their fields, as a more compact and cheaper alternative to Java serialization.
+ *
+ * <p>A type is supported when it is a primitive, a boxed primitive, a {@link String}, an enum, a {@link File}, a byte array or a {@link Throwable},
+ * or when it is a concrete {@link Serializable} class without custom serialization methods whose serializable fields all have supported types.
+ * Non-primitive fields must be declared with a final type, so that the runtime type of the value is known, unless they are enums or throwables.
+ * Throwables are still written using Java serialization, as their structure is arbitrary.</p>
+ *
+ * <p>Instances are created the same way as Java serialization does, by running the no-args constructor of the first non-serializable superclass.
+ * The fields of each class are written in name order, as the order in which the JVM reports them is unspecified and the two ends of a connection may run on different JVMs.
+ * Records and hidden classes are not supported, as their final fields cannot be set reflectively.</p>
+ *
+ * <p>The serializers are cached per type. Callers are expected to fall back to Java serialization for types that are not supported.</p>
+ */
+@ThreadSafe
+public class ReflectiveSerializerFactory {
+    private static final Map<Class<?>, Serializer<?>> BASIC_TYPES;
+    private static final Set<String> CUSTOM_SERIALIZATION_METHODS = new HashSet<>(
+        Arrays.asList("writeObject", "readObject", "readObjectNoData", "writeReplace", "readResolve")
+    );
+
+    static {
+        Map<Class<?>, Serializer<?>> basicTypes = new HashMap<>();
+        basicTypes.put(boolean.class, BOOLEAN_SERIALIZER);
+        basicTypes.put(Boolean.class, BOOLEAN_SERIALIZER);
+        basicTypes.put(byte.class, BYTE_SERIALIZER);
+        basicTypes.put(Byte.class, BYTE_SERIALIZER);
+        basicTypes.put(char.class, CHAR_SERIALIZER);
+        basicTypes.put(Character.class, CHAR_SERIALIZER);
+        basicTypes.put(short.class, SHORT_SERIALIZER);
+        basicTypes.put(Short.class, SHORT_SERIALIZER);
+        basicTypes.put(int.class, INTEGER_SERIALIZER);
+        basicTypes.put(Integer.class, INTEGER_SERIALIZER);
+        basicTypes.put(long.class, LONG_SERIALIZER);
+        basicTypes.put(Long.class, LONG_SERIALIZER);
+        basicTypes.put(float.class, FLOAT_SERIALIZER);
+        basicTypes.put(Float.class, FLOAT_SERIALIZER);
+        basicTypes.put(double.class, DOUBLE_SERIALIZER);
+        basicTypes.put(Double.class, DOUBLE_SERIALIZER);
+        basicTypes.put(String.class, STRING_SERIALIZER);
+        basicTypes.put(File.class, FILE_SERIALIZER);
+        basicTypes.put(byte[].class, BYTE_ARRAY_SERIALIZER);
+        BASIC_TYPES = Collections.unmodifiableMap(basicTypes);
+    }
+
+    private final ConcurrentMap<Class<?>, Optional<Serializer<?>>> serializers = new ConcurrentHashMap<>();
+    private final Serializer<Throwable> throwableSerializer;
+
+    /**
+     * @param classLoader the class loader to use to load the classes of deserialized throwables.
+     */
+    public ReflectiveSerializerFactory(ClassLoader classLoader) {
+        this.throwableSerializer = new ThrowableSerializer(classLoader);
+    }
+
+    /**
+     * Returns a serializer for values of the given type, or null when the type is not supported.
+     *
+     * <p>Except for enums and throwables, the serializer only handles values whose runtime type is exactly the given type. The serializer does not accept null values.</p>
+     */
+    @Nullable
+    public <T> Serializer<T> serializerFor(Class<T> type) {
+        Optional<Serializer<?>> serializer = serializers.get(type);
+        if (serializer == null) {
+            // Not using computeIfAbsent(), as creating a serializer recursively looks up the serializers for the field types
+            serializer = Optional.ofNullable(create(type, new HashSet<>()));
+            Optional<Serializer<?>> previous = serializers.putIfAbsent(type, serializer);
+            if (previous != null) {
+                serializer = previous;
+            }
+        }
+        return Cast.uncheckedCast(serializer.orElse(null));
+    }
+
+    /**
+     * Returns true when values of the given declared type always have a runtime type that the serializer returned by {@link #serializerFor(Class)} can handle.
+     */
+    public static boolean isClosedType(Class<?> type) {
+        return type.isPrimitive() || Modifier.isFinal(type.getModifiers()) || type.isEnum() || Throwable.class.isAssignableFrom(type) || type.equals(File.class);
+    }
+
+    @Nullable
+    private Serializer<?> create(Class<?> type, Set<Class<?>> visiting) {
+        Serializer<?> basic = BASIC_TYPES.get(type);
+        if (basic != null) {
+            return basic;
+        }
+        if (type.isEnum()) {
+            return new BaseSerializerFactory().getSerializerFor(type);
+        }
+        if (Throwable.class.isAssignableFrom(type)) {
+            return throwableSerializer;
+        }
+        Optional<Serializer<?>> cached = serializers.get(type);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        if (!visiting.add(type)) {
+            // Recursive structure, which would need back references
+            return null;
+        }
+        try {
+            return createFieldBased(type, visiting);
+        } finally {
+            visiting.remove(type);
+        }
+    }
+
+    @Nullable
+    private Serializer<?> createFieldBased(Class<?> type, Set<Class<?>> visiting) {
+        if (type.isArray() || type.isInterface() || Modifier.isAbstract(type.getModifiers()) || !Serializable.class.isAssignableFrom(type) || Externalizable.class.isAssignableFrom(type)) {
+            return null;
+        }
+
+        List<Class<?>> serializableTypes = new ArrayList<>();
+        Class<?> current = type;
+        while (current != null && Serializable.class.isAssignableFrom(current)) {
+            serializableTypes.add(0, current);
+            current = current.getSuperclass();
+        }
+        if (current == null || hasCustomSerialization(type)) {
+            return null;
+        }
+        for (Class<?> serializableType : serializableTypes) {
+            if (!FinalFields.canBeSet(serializableType)) {
+                return null;
+            }
+        }
+        Constructor<?> constructor = SerializationConstructors.constructorFor(type, current);
+        if (constructor == null) {
+            return null;
+        }
+
+        List<FieldCodec> fields = new ArrayList<>();
+        for (Class<?> serializableType : serializableTypes) {
+            Field[] declaredFields = serializableType.getDeclaredFields();
+            Arrays.sort(declaredFields, Comparator.comparing(Field::getName));
+            for (Field field : declaredFields) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers)) {
+                    if (field.getName().equals("serialPersistentFields")) {
+                        return null;
+                    }
+                    continue;
+                }
+                if (Modifier.isTransient(modifiers)) {
+                    continue;
+                }
+                FieldCodec codec = fieldCodecFor(field, visiting);
+                if (codec == null) {
+                    return null;
+                }
+                fields.add(codec);
+            }
+        }
+        return new FieldBasedSerializer<Object>(type, constructor, fields.toArray(new FieldCodec[0]));
+    }
+
+    @Nullable
+    private FieldCodec fieldCodecFor(Field field, Set<Class<?>> visiting) {
+        Class<?> fieldType = field.getType();
+        if (!isClosedType(fieldType)) {
+            return null;
+        }
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException e) {
+            // Cannot access the field, for example when it belongs to a JDK type
+            return null;
+        }
+        if (fieldType.isPrimitive()) {
+            return new PrimitiveFieldCodec(field);
+        }
+        Serializer<?> serializer = create(fieldType, visiting);
+        if (serializer == null) {
+            return null;
+        }
+        return new ObjectFieldCodec(field, Cast.uncheckedNonnullCast(serializer));
+    }
+
+    private static boolean hasCustomSerialization(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (CUSTOM_SERIALIZATION_METHODS.contains(method.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static abstract class FieldCodec {
+        final Field field;
+
+        FieldCodec(Field field) {
+            this.field = field;
+        }
+
+        abstract void write(Encoder encoder, Object target) throws Exception;
+
+        abstract void read(Decoder decoder, Object target) throws Exception;
+    }
+
+    private static class PrimitiveFieldCodec extends FieldCodec {
+        private final Class<?> type;
+
+        PrimitiveFieldCodec(Field field) {
+            super(field);
+            this.type = field.getType();
+        }
+
+        @Override
+        void write(Encoder encoder, Object target) throws Exception {
+            if (type == int.class) {
+                encoder.writeInt(field.getInt(target));
+            } else if (type == long.class) {
+                encoder.writeLong(field.getLong(target));
+            } else if (type == boolean.class) {
+                encoder.writeBoolean(field.getBoolean(target));
+            } else if (type == byte.class) {
+                encoder.writeByte(field.getByte(target));
+            } else if (type == short.class) {
+                encoder.writeShort(field.getShort(target));
+            } else if (type == char.class) {
+                encoder.writeInt(field.getChar(target));
+            } else if (type == float.class) {
+                encoder.writeFloat(field.getFloat(target));
+            } else {
+                encoder.writeDouble(field.getDouble(target));
+            }
+        }
+
+        @Override
+        void read(Decoder decoder, Object target) throws Exception {
+            if (type == int.class) {
+                field.setInt(target, decoder.readInt());
+            } else if (type == long.class) {
+                field.setLong(target, decoder.readLong());
+            } else if (type == boolean.class) {
+                field.setBoolean(target, decoder.readBoolean());
+            } else if (type == byte.class) {
+                field.setByte(target, decoder.readByte());
+            } else if (type == short.class) {
+                field.setShort(target, decoder.readShort());
+            } else if (type == char.class) {
+                field.setChar(target, (char) decoder.readInt());
+            } else if (type == float.class) {
+                field.setFloat(target, decoder.readFloat());
+            } else {
+                field.setDouble(target, decoder.readDouble());
+            }
+        }
+    }
+
+    private static class ObjectFieldCodec extends FieldCodec {
+        private final Serializer<Object> serializer;
+
+        ObjectFieldCodec(Field field, Serializer<Object> serializer) {
+            super(field);
+            this.serializer = serializer;
+        }
+
+        @Override
+        void write(Encoder encoder, Object target) throws Exception {
+            Object value = field.get(target);
+            if (value == null) {
+                encoder.writeBoolean(false);
+            } else {
+                encoder.writeBoolean(true);
+                serializer.write(encoder, value);
+            }
+        }
+
+        @Override
+        void read(Decoder decoder, Object target) throws Exception {
+            if (decoder.readBoolean()) {
+                field.set(target, serializer.read(decoder));
+            }
+        }
+    }
+
+    private static class FieldBasedSerializer<T> implements Serializer<T> {
+        private final Class<?> type;
+        private final Constructor<?> constructor;
+        private final FieldCodec[] fields;
+
+        FieldBasedSerializer(Class<?> type, Constructor<?> constructor, FieldCodec[] fields) {
+            this.type = type;
+            this.constructor = constructor;
+            this.fields = fields;
+        }
+
+        @Override
+        public T read(Decoder decoder) throws Exception {
+            Object value = constructor.newInstance();
+            for (FieldCodec field : fields) {
+                field.read(decoder, value);
+            }
+            return Cast.uncheckedNonnullCast(value);
+        }
+
+        @Override
+        public void write(Encoder encoder, T value) throws Exception {
+            if (value.getClass() != type) {
+                throw new IllegalArgumentException(String.format("Cannot serialize an object of type %s using a serializer for type %s.", value.getClass().getName(), type.getName()));
+            }
+            for (FieldCodec field : fields) {
+                field.write(encoder, value);
+            }
+        }
+    }
+
+    private static class ThrowableSerializer implements Serializer<Throwable> {
+        private final ClassLoader classLoader;
+
+        ThrowableSerializer(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Throwable read(Decoder decoder) throws Exception {
+            return (Throwable) Message.receive(decoder.getInputStream(), classLoader);
+        }
+
+        @Override
+        public void write(Encoder encoder, Throwable value) throws Exception {
+            Message.send(value, encoder.getOutputStream());
+        }
+    }
+
+    /**
+     * Determines whether the final fields of a class can be set reflectively. They cannot for records and hidden classes,
+     * which are detected reflectively as these types are not available on all the JVMs that this code runs on.
+     */
+    private static class FinalFields {
+        @Nullable
+        private static final Method IS_RECORD = classMethod("isRecord");
+        @Nullable
+        private static final Method IS_HIDDEN = classMethod("isHidden");
+
+        @Nullable
+        private static Method classMethod(String name) {
+            try {
+                return Class.class.getMethod(name);
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        static boolean canBeSet(Class<?> type) {
+            return !is(IS_RECORD, type) && !is(IS_HIDDEN, type);
+        }
+
+        private static boolean is(@Nullable Method method, Class<?> type) {
+            if (method == null) {
+                return false;
+            }
+            try {
+                return (Boolean) method.invoke(type);
+            } catch (Exception e) {
+                // Assume the worst
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Creates constructors that instantiate a serializable type without running its own constructors, as Java serialization does.
+     * The JDK factory for these is looked up reflectively, as it is not part of the public API.
+     */
+    private static class SerializationConstructors {
+        @Nullable
+        private static final Method NEW_CONSTRUCTOR_FOR_SERIALIZATION;
+        @Nullable
+        private static final Object REFLECTION_FACTORY;
+
+        static {
+            Method method = null;
+            Object factory = null;
+            try {
+                Class<?> factoryType = Class.forName("sun.reflect.ReflectionFactory");
+                factory = factoryType.getMethod("getReflectionFactory").invoke(null);
+                method = factoryType.getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+            } catch (Exception e) {
+                // Not available on this JVM, so no field based serializers can be created
+            }
+            NEW_CONSTRUCTOR_FOR_SERIALIZATION = method;
+            REFLECTION_FACTORY = factory;
+        }
+
+        @Nullable
+        static Constructor<?> constructorFor(Class<?> type, Class<?> nonSerializableSuperType) {
+            Constructor<?> superConstructor;
+            try {
+                superConstructor = nonSerializableSuperType.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+            if (Modifier.isPrivate(superConstructor.getModifiers()) || NEW_CONSTRUCTOR_FOR_SERIALIZATION == null) {
+                return null;
+            }
+            try {
+                Constructor<?> constructor = (Constructor<?>) NEW_CONSTRUCTOR_FOR_SERIALIZATION.invoke(REFLECTION_FACTORY, type, superConstructor);
+                constructor.setAccessible(true);
+                return constructor;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+}
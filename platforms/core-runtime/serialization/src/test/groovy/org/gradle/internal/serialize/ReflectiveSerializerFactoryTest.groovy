@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.serialize
+
+class ReflectiveSerializerFactoryTest extends SerializerSpec {
+    def factory = new ReflectiveSerializerFactory(getClass().classLoader)
+
+    def "serializes basic types"() {
+        expect:
+        serialize(value, factory.serializerFor(type)) == value
+
+        where:
+        type    | value
+        String  | "value"
+        Integer | 12
+        Long    | 12L
+        Boolean | true
+        File    | new File("some-file").absoluteFile
+        Mode    | Mode.FAST
+    }
+
+    def "serializes message type using its fields"() {
+        def message = new TestMessage(12, 123L, true, 'x' as char, 1.5d, "name", null, Mode.SLOW, new Details("detail", [1, 2, 3] as byte[]), null)
+
+        when:
+        def result = usesEfficientSerialization(message, factory.serializerFor(TestMessage))
+
+        then:
+        result.count == 12
+        result.timestamp == 123L
+        result.flag
+        result.letter == 'x' as char
+        result.ratio == 1.5d
+        result.name == "name"
+        result.optional == null
+        result.mode == Mode.SLOW
+        result.details.text == "detail"
+        result.details.bytes == [1, 2, 3] as byte[]
+        result.failure == null
+    }
+
+    def "serializes throwable fields using Java serialization"() {
+        def failure = new IllegalStateException("broken")
+        def message = new TestMessage(1, 2L, false, 'a' as char, 0d, "name", "optional", Mode.FAST, null, failure)
+
+        when:
+        def result = serialize(message, factory.serializerFor(TestMessage))
+
+        then:
+        result.failure instanceof IllegalStateException
+        result.failure.message == "broken"
+        result.details == null
+        result.optional == "optional"
+    }
+
+    def "serializes fields of serializable super types"() {
+        when:
+        def result = serialize(new SubMessage("base", "sub"), factory.serializerFor(SubMessage))
+
+        then:
+        result.baseValue == "base"
+        result.subValue == "sub"
+    }
+
+    def "writes the fields of each class in name order"() {
+        def message = new UnorderedMessage(3, 1, 2)
+        def serializer = factory.serializerFor(UnorderedMessage)
+
+        when:
+        def decoder = getDecoder().newInstance(new ByteArrayInputStream(toBytes(message, serializer)))
+
+        then:
+        decoder.readInt() == 1
+        decoder.readInt() == 2
+        decoder.readInt() == 3
+
+        when:
+        def result = serialize(message, serializer)
+
+        then:
+        result.c == 3
+        result.a == 1
+        result.b == 2
+    }
+
+    def "serializes final type with only final fields and no default constructor"() {
+        when:
+        def result = serialize(new Point(1, 2, "origin"), factory.serializerFor(Point))
+
+        then:
+        result.x == 1
+        result.y == 2
+        result.label == "origin"
+    }
+
+    def "does not support type #type.simpleName"() {
+        expect:
+        factory.serializerFor(type) == null
+
+        where:
+        type << [NotSerializable, WithOpenFieldType, WithCustomSerialization, Recursive, Serializable, Object[]]
+    }
+
+    def "caches serializers"() {
+        expect:
+        factory.serializerFor(TestMessage).is(factory.serializerFor(TestMessage))
+    }
+
+    def "rejects values of a sub type"() {
+        when:
+        toBytes(new SubMessage("base", "sub"), factory.serializerFor(BaseMessage))
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == "Cannot serialize an object of type ${SubMessage.name} using a serializer for type ${BaseMessage.name}."
+    }
+
+    def "closed types are final, primitive, enums or throwables"() {
+        expect:
+        ReflectiveSerializerFactory.isClosedType(int)
+        ReflectiveSerializerFactory.isClosedType(String)
+        ReflectiveSerializerFactory.isClosedType(Mode)
+        ReflectiveSerializerFactory.isClosedType(RuntimeException)
+        ReflectiveSerializerFactory.isClosedType(Details)
+        !ReflectiveSerializerFactory.isClosedType(Object)
+        !ReflectiveSerializerFactory.isClosedType(List)
+        !ReflectiveSerializerFactory.isClosedType(BaseMessage)
+    }
+
+    enum Mode {
+        FAST, SLOW
+    }
+
+    static final class Details implements Serializable {
+        final String text
+        final byte[] bytes
+
+        Details(String text, byte[] bytes) {
+            this.text = text
+            this.bytes = bytes
+        }
+    }
+
+    static final class TestMessage implements Serializable {
+        final int count
+        final long timestamp
+        final boolean flag
+        final char letter
+        final double ratio
+        final String name
+        final String optional
+        final Mode mode
+        final Details details
+        final Throwable failure
+
+        TestMessage(int count, long timestamp, boolean flag, char letter, double ratio, String name, String optional, Mode mode, Details details, Throwable failure) {
+            this.count = count
+            this.timestamp = timestamp
+            this.flag = flag
+            this.letter = letter
+            this.ratio = ratio
+            this.name = name
+            this.optional = optional
+            this.mode = mode
+            this.details = details
+            this.failure = failure
+        }
+    }
+
+    static final class UnorderedMessage implements Serializable {
+        final int c
+        final int a
+        final int b
+
+        UnorderedMessage(int c, int a, int b) {
+            this.c = c
+            this.a = a
+            this.b = b
+        }
+    }
+
+    static final class Point implements Serializable {
+        private final int x
+        private final int y
+        private final String label
+
+        Point(int x, int y, String label) {
+            this.x = x
+            this.y = y
+            this.label = label
+        }
+
+        int getX() {
+            return x
+        }
+
+        int getY() {
+            return y
+        }
+
+        String getLabel() {
+            return label
+        }
+    }
+
+    static class BaseMessage implements Serializable {
+        final String baseValue
+
+        BaseMessage(String baseValue) {
+            this.baseValue = baseValue
+        }
+    }
+
+    static class SubMessage extends BaseMessage {
+        final String subValue
+
+        SubMessage(String baseValue, String subValue) {
+            super(baseValue)
+            this.subValue = subValue
+        }
+    }
+
+    static final class NotSerializable {
+        String value
+    }
+
+    static final class WithOpenFieldType implements Serializable {
+        List<String> values
+    }
+
+    static final class WithCustomSerialization implements Serializable {
+        String value
+
+        private void writeObject(ObjectOutputStream outputStream) {
+        }
+    }
+
+    static final class Recursive implements Serializable {
+        Recursive next
+    }
+}
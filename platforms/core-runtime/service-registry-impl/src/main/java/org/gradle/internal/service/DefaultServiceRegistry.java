@@ -24,7 +24,6 @@
 
 import java.io.Closeable;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -1100,7 +1099,7 @@ protected Object createServiceInstance() {
 
     private static class ConstructorService extends FactoryService {
         @Nullable
-        private Constructor<?> constructor;
+        private InjectableConstructor constructor;
 
         private ConstructorService(DefaultServiceRegistry owner, ServiceAccessScope accessScope, ServiceAccessToken token, Class<?> serviceType) {
             this(owner, accessScope, token, serviceType, serviceType);
@@ -1123,16 +1122,12 @@ private ConstructorService(DefaultServiceRegistry owner, ServiceAccessScope acce
 
             validateImplementationForServiceTypes(serviceTypes, implementationType);
 
-            Constructor<?> match = InjectUtil.selectConstructor(implementationType);
-            if (InjectUtil.isPackagePrivate(match.getModifiers()) || Modifier.isPrivate(match.getModifiers())) {
-                match.setAccessible(true);
-            }
-            this.constructor = match;
+            this.constructor = InjectableConstructor.getConstructor(implementationType);
         }
 
         @Override
         protected Type[] getParameterTypes() {
-            return getConstructor().getGenericParameterTypes();
+            return getConstructor().parameterTypes;
         }
 
         @Override
@@ -1148,18 +1143,18 @@ public String getDisplayName() {
                 return super.getDisplayName();
             }
 
-            return format("Service", serviceTypes) + " via " + format(getConstructor().getDeclaringClass()) + " constructor";
+            return format("Service", serviceTypes) + " via " + format(getConstructor().constructor.getDeclaringClass()) + " constructor";
         }
 
         @Override
         protected String getFactoryDisplayName() {
-            return String.format("%s constructor", format(getConstructor().getDeclaringClass()));
+            return String.format("%s constructor", format(getConstructor().constructor.getDeclaringClass()));
         }
 
         @Override
         protected Object invokeMethod(Object[] params) {
             try {
-                return getConstructor().newInstance(params);
+                return getConstructor().constructor.newInstance(params);
             } catch (InvocationTargetException e) {
                 throw new ServiceCreationException(String.format("Could not create service of %s.", format("type", serviceTypes)), e.getCause());
             } catch (Exception e) {
@@ -1167,8 +1162,8 @@ protected Object invokeMethod(Object[] params) {
             }
         }
 
-        private Constructor<?> getConstructor() {
-            Constructor<?> constructor = this.constructor;
+        private InjectableConstructor getConstructor() {
+            InjectableConstructor constructor = this.constructor;
             if (constructor == null) {
                 throw new IllegalStateException("Constructor is no longer available for the instance of " + format("service", serviceTypes));
             }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.service;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The constructor used to create instances of a service implementation, along with its parameter types.
+ * <p>
+ * Selected once per implementation type and shared by all registries that construct instances of that type,
+ * so that registries created for each build, project and so on do not repeat the reflective lookup.
+ */
+class InjectableConstructor {
+    private static final ConcurrentMap<Class<?>, InjectableConstructor> CONSTRUCTORS_CACHE = new ConcurrentHashMap<Class<?>, InjectableConstructor>();
+
+    final Constructor<?> constructor;
+    final Type[] parameterTypes;
+
+    private InjectableConstructor(Constructor<?> constructor) {
+        this.constructor = constructor;
+        this.parameterTypes = constructor.getGenericParameterTypes();
+    }
+
+    public static InjectableConstructor getConstructor(Class<?> type) {
+        InjectableConstructor injectableConstructor = CONSTRUCTORS_CACHE.get(type);
+        if (injectableConstructor == null) {
+            Constructor<?> match = InjectUtil.selectConstructor(type);
+            if (InjectUtil.isPackagePrivate(match.getModifiers()) || Modifier.isPrivate(match.getModifiers())) {
+                match.setAccessible(true);
+            }
+            injectableConstructor = new InjectableConstructor(match);
+            InjectableConstructor existing = CONSTRUCTORS_CACHE.putIfAbsent(type, injectableConstructor);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return injectableConstructor;
+    }
+}
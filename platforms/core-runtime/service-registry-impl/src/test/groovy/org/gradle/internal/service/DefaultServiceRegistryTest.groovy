@@ -19,6 +19,7 @@ package org.gradle.internal.service
 import com.google.common.reflect.TypeToken
 import org.gradle.internal.Factory
 import org.gradle.internal.concurrent.Stoppable
+import org.gradle.internal.service.internal.ModifierStubs
 import org.gradle.util.GroovyNullMarked
 import org.gradle.util.internal.TextUtil
 import spock.lang.Specification
@@ -131,6 +132,57 @@ class DefaultServiceRegistryTest extends Specification {
         registry.get(ServiceWithDependency).service == registry.get(TestServiceImpl)
     }
 
+    def "creates separate instances of the same service implementation in separate registries"() {
+        def registries = (1..2).collect {
+            def registry = new DefaultServiceRegistry()
+            registry.register({ ServiceRegistration registration ->
+                registration.add(ServiceWithDependency)
+                registration.add(TestServiceImpl)
+            })
+            registry
+        }
+
+        expect:
+        registries[0].get(ServiceWithDependency) != registries[1].get(ServiceWithDependency)
+        registries.every { it.get(ServiceWithDependency).service == it.get(TestServiceImpl) }
+    }
+
+    def "selects the constructor of a service implementation once and reuses it in other registries"() {
+        def constructor = InjectableConstructor.getConstructor(ServiceWithDependency)
+        def registries = (1..2).collect {
+            def registry = new DefaultServiceRegistry()
+            registry.register({ ServiceRegistration registration ->
+                registration.add(ServiceWithDependency)
+                registration.add(TestServiceImpl)
+            })
+            registry
+        }
+
+        expect:
+        registries.every { it.get(ServiceWithDependency) instanceof ServiceWithDependency }
+        InjectableConstructor.getConstructor(ServiceWithDependency).is(constructor)
+    }
+
+    def "fails in every registry when the constructor of a service implementation is not valid for injection"() {
+        when:
+        new DefaultServiceRegistry().register {
+            it.add(ModifierStubs.PublicConstructorWithPrivateConstructor)
+        }
+
+        then:
+        def first = thrown(ServiceValidationException)
+        first.message.contains("Expected a single non-private constructor, or one constructor annotated with @Inject for")
+
+        when:
+        new DefaultServiceRegistry().register {
+            it.add(ModifierStubs.PublicConstructorWithPrivateConstructor)
+        }
+
+        then:
+        def second = thrown(ServiceValidationException)
+        second.message == first.message
+    }
+
     def usesFactoryMethodOnProviderToCreateServiceInstance() {
         def registry = new DefaultServiceRegistry()
         registry.addProvider(new TestProvider())
@@ -69,6 +69,9 @@
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 public class DefaultNamedDomainObjectCollection<T> extends DefaultDomainObjectCollection<T> implements NamedDomainObjectCollection<T>, MethodMixIn, PropertyMixIn {
 
@@ -604,6 +607,10 @@ private boolean isConfigureMethod(String name, @Nullable Object... arguments) {
     protected static class UnfilteredIndex<T> implements Index<T> {
         private final Map<String, ProviderInternal<? extends T>> pendingMap = new LinkedHashMap<>();
         private final NavigableMap<String, T> map = new TreeMap<String, T>();
+        // The contents of views that filter by type alone, such as withType(), calculated at most once between changes to this index.
+        // Concurrent maps, as read-only queries may happen from multiple threads
+        private final ConcurrentMap<Class<?>, NavigableMap<String, ?>> mapsByType = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Class<?>, Map<String, ? extends ProviderInternal<?>>> pendingMapsByType = new ConcurrentHashMap<>();
 
         @Override
         public NavigableMap<String, T> asMap() {
@@ -613,6 +620,7 @@ public NavigableMap<String, T> asMap() {
         @Override
         public void put(String name, T value) {
             map.put(name, value);
+            invalidateMapsByType();
         }
 
         @Override
@@ -623,12 +631,15 @@ public T get(String name) {
         @Override
         public void remove(String name) {
             map.remove(name);
+            invalidateMapsByType();
         }
 
         @Override
         public void clear() {
             map.clear();
             pendingMap.clear();
+            invalidateMapsByType();
+            invalidatePendingMapsByType();
         }
 
         @Override
@@ -645,22 +656,62 @@ public ProviderInternal<? extends T> getPending(String name) {
         @Override
         public void putPending(String name, ProviderInternal<? extends T> provider) {
             pendingMap.put(name, provider);
+            invalidatePendingMapsByType();
         }
 
         @Override
         public void removePending(String name) {
             pendingMap.remove(name);
+            invalidatePendingMapsByType();
         }
 
         @Override
         public void removePending(ProviderInternal<? extends T> provider) {
             pendingMap.values().remove(provider);
+            invalidatePendingMapsByType();
         }
 
         @Override
         public Map<String, ProviderInternal<? extends T>> getPendingAsMap() {
             return pendingMap;
         }
+
+        <S> NavigableMap<String, S> getMapForType(Class<S> type, Supplier<NavigableMap<String, S>> filter) {
+            NavigableMap<String, ?> map = mapsByType.get(type);
+            if (map == null) {
+                // Filter outside the map, so that concurrent queries for other types are not blocked
+                map = filter.get();
+                NavigableMap<String, ?> previous = mapsByType.putIfAbsent(type, map);
+                if (previous != null) {
+                    map = previous;
+                }
+            }
+            return Cast.uncheckedNonnullCast(map);
+        }
+
+        <S> Map<String, ProviderInternal<? extends S>> getPendingMapForType(Class<S> type, Supplier<Map<String, ProviderInternal<? extends S>>> filter) {
+            Map<String, ? extends ProviderInternal<?>> map = pendingMapsByType.get(type);
+            if (map == null) {
+                map = Collections.unmodifiableMap(filter.get());
+                Map<String, ? extends ProviderInternal<?>> previous = pendingMapsByType.putIfAbsent(type, map);
+                if (previous != null) {
+                    map = previous;
+                }
+            }
+            return Cast.uncheckedNonnullCast(map);
+        }
+
+        private void invalidateMapsByType() {
+            if (!mapsByType.isEmpty()) {
+                mapsByType.clear();
+            }
+        }
+
+        private void invalidatePendingMapsByType() {
+            if (!pendingMapsByType.isEmpty()) {
+                pendingMapsByType.clear();
+            }
+        }
     }
 
     private static class FilteredIndex<T> implements Index<T> {
@@ -671,10 +722,19 @@ public Map<String, ProviderInternal<? extends T>> getPendingAsMap() {
 
         private final CollectionFilter<T> elementFilter;
 
+        /**
+         * The unfiltered index, when this view filters by type alone and so can share the contents calculated for that type with other views.
+         */
+        @Nullable
+        private final UnfilteredIndex<?> typeIndex;
+
         FilteredIndex(Index<? super T> delegate, Spec<String> nameFilter, CollectionFilter<T> elementFilter) {
             this.delegate = delegate;
             this.nameFilter = nameFilter;
             this.elementFilter = elementFilter;
+            this.typeIndex = delegate instanceof UnfilteredIndex && nameFilter == Specs.SATISFIES_ALL && elementFilter.isTypeOnly()
+                ? (UnfilteredIndex<?>) delegate
+                : null;
         }
 
         @Override
@@ -703,6 +763,14 @@ public void clear() {
 
         @Override
         public NavigableMap<String, T> asMap() {
+            if (typeIndex == null) {
+                return filterMap();
+            }
+            // The map is exposed to users, so hand out a copy as for other views
+            return new TreeMap<>(typeIndex.getMapForType(Cast.<Class<T>>uncheckedNonnullCast(elementFilter.getType()), this::filterMap));
+        }
+
+        private NavigableMap<String, T> filterMap() {
             NavigableMap<String, ? super T> delegateMap = delegate.asMap();
 
             NavigableMap<String, T> filtered = new TreeMap<>();
@@ -757,6 +825,13 @@ public void removePending(ProviderInternal<? extends T> provider) {
 
         @Override
         public Map<String, ProviderInternal<? extends T>> getPendingAsMap() {
+            if (typeIndex == null) {
+                return filterPendingMap();
+            }
+            return typeIndex.getPendingMapForType(Cast.<Class<T>>uncheckedNonnullCast(elementFilter.getType()), this::filterPendingMap);
+        }
+
+        private Map<String, ProviderInternal<? extends T>> filterPendingMap() {
             // TODO not sure if we can clean up the generics here and do less unchecked casting
             Map<String, ProviderInternal<?>> delegateMap = Cast.uncheckedCast(delegate.getPendingAsMap());
             Map<String, ProviderInternal<? extends T>> filteredMap = new LinkedHashMap<>();
@@ -38,6 +38,13 @@ public Class<? extends T> getType() {
         return type;
     }
 
+    /**
+     * Returns true when this filter selects elements by their type alone.
+     */
+    public boolean isTypeOnly() {
+        return spec == Specs.SATISFIES_ALL;
+    }
+
     @Nullable
     public T filter(@Nullable Object object) {
         if (!type.isInstance(object)) {
@@ -48,7 +48,10 @@ public boolean tryFindUnqualifiedTaskCheaply(String name, ProjectInternal projec
     }
 
     /**
-     * Finds tasks that will have exactly the given name, without necessarily creating or configuring the tasks. Returns null if no such match found.
+     * Finds tasks that will have exactly the given name. Returns null if no such match found.
+     * <p>
+     * When subprojects are included, the matching tasks are created and configured while searching, as whether a task implies
+     * its subprojects is only known from the task itself.
      */
     @Nullable
     public TaskSelectionResult selectWithName(final String taskName, final ProjectInternal project, boolean includeSubProjects) {
@@ -16,6 +16,7 @@
 
 package org.gradle.execution;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.gradle.api.Action;
 import org.gradle.api.BuildCancelledException;
 import org.gradle.api.Project;
@@ -33,6 +34,11 @@
 import org.gradle.internal.operations.RunnableBuildOperation;
 import org.gradle.internal.work.WorkerLimits;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
 
 public class TaskPathProjectEvaluator implements ProjectConfigurer {
@@ -41,7 +47,8 @@ public class TaskPathProjectEvaluator implements ProjectConfigurer {
      * Parallel project configuration scheduling strategy, one of:
      * <ul>
      * <li> {@code aot}: schedule all projects ahead-of-time and let them compete for resources;
-     * <li> {@code jit}: schedule children only after their parents have been configured (just-in-time);
+     * <li> {@code jit}: schedule children only after their parents have been configured (just-in-time),
+     * starting with the children that have the largest hierarchies below them;
      * </ul>
      * Default is {@code jit}.
      */
@@ -129,6 +136,8 @@ private void scheduleProjectsJustInTime(ProjectState root) {
         runAllWithAccessToProjectState(queue -> {
 
             final LinkedBlockingQueue<ProjectState> readyQueue = new LinkedBlockingQueue<>();
+            final Map<ProjectState, Integer> hierarchySizes = new HashMap<>();
+            countHierarchySize(root, hierarchySizes);
             queue.add(traverseProject(root, readyQueue));
 
             int pending = root.hasChildren() ? 1 : 0;
@@ -140,7 +149,7 @@ private void scheduleProjectsJustInTime(ProjectState root) {
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
-                for (final ProjectState child : next.getUnorderedChildProjects()) {
+                for (final ProjectState child : childrenInSchedulingOrder(next, hierarchySizes)) {
                     queue.add(traverseProject(child, readyQueue));
                     if (child.hasChildren()) {
                         // Only wait for projects that have children to be configured
@@ -151,6 +160,27 @@ private void scheduleProjectsJustInTime(ProjectState root) {
         });
     }
 
+    private static int countHierarchySize(ProjectState project, Map<ProjectState, Integer> hierarchySizes) {
+        int size = 1;
+        for (ProjectState child : project.getUnorderedChildProjects()) {
+            size += countHierarchySize(child, hierarchySizes);
+        }
+        hierarchySizes.put(project, size);
+        return size;
+    }
+
+    /**
+     * Children with larger hierarchies are scheduled first, as they unlock the most work once configured.
+     * Ties are broken by path, so that projects are always scheduled in the same order.
+     */
+    @VisibleForTesting
+    static List<ProjectState> childrenInSchedulingOrder(ProjectState project, Map<ProjectState, Integer> hierarchySizes) {
+        List<ProjectState> children = new ArrayList<>(project.getChildProjects());
+        children.sort(Comparator.comparing((ProjectState child) -> hierarchySizes.get(child)).reversed()
+            .thenComparing(ProjectState::getIdentityPath));
+        return children;
+    }
+
     private static RunnableBuildOperation traverseProject(ProjectState project, LinkedBlockingQueue<ProjectState> readyQueue) {
         return new RunnableBuildOperation() {
             @Override
@@ -32,6 +32,7 @@
 import org.gradle.internal.concurrent.Stoppable;
 import org.gradle.internal.logging.text.TreeFormatter;
 import org.gradle.internal.resources.ResourceLockCoordinationService;
+import org.gradle.internal.work.AdaptiveWorkerLeaseController;
 import org.gradle.internal.work.WorkerLeaseRegistry.WorkerLease;
 import org.gradle.internal.work.WorkerLeaseService;
 import org.gradle.internal.work.WorkerLimits;
@@ -70,6 +71,8 @@ public class DefaultPlanExecutor implements PlanExecutor, Stoppable {
     private final MergedQueues queue;
     private final ExecutorState state = new ExecutorState();
     private final ExecutorStats stats;
+    private final AdaptiveWorkerLeaseController adaptiveWorkerLeaseController;
+    private volatile boolean adaptiveWorkerLeasesStarted;
 
     public DefaultPlanExecutor(
         WorkerLimits workerLimits,
@@ -77,7 +80,8 @@ public DefaultPlanExecutor(
         WorkerLeaseService workerLeaseService,
         BuildCancellationToken cancellationToken,
         ResourceLockCoordinationService coordinationService,
-        InternalOptions internalOptions
+        InternalOptions internalOptions,
+        AdaptiveWorkerLeaseController adaptiveWorkerLeaseController
     ) {
         this.workerLimits = workerLimits;
         this.cancellationToken = cancellationToken;
@@ -86,6 +90,7 @@ public DefaultPlanExecutor(
         this.stats = internalOptions.getOption(STATS).get() ? new CollectingExecutorStats(state) : state;
         this.queue = new MergedQueues(coordinationService, false);
         this.executor = executorFactory.create("Execution worker");
+        this.adaptiveWorkerLeaseController = adaptiveWorkerLeaseController;
     }
 
     @Override
@@ -93,6 +98,9 @@ public void stop() {
         try {
             CompositeStoppable.stoppable(queue, executor).stop();
         } finally {
+            if (adaptiveWorkerLeasesStarted) {
+                adaptiveWorkerLeaseController.release();
+            }
             stats.report();
         }
     }
@@ -177,6 +185,8 @@ private void maybeStartWorkers(MergedQueues queue, Executor executor) {
         int executorCount = workerLimits.getMaxWorkerCount();
         state.maybeStartWorkers(() -> {
             LOGGER.debug("Using {} parallel executor threads", executorCount);
+            adaptiveWorkerLeaseController.start();
+            adaptiveWorkerLeasesStarted = true;
             for (int i = 1; i < executorCount; i++) {
                 executor.execute(new ExecutorWorker(queue, null, cancellationToken, coordinationService, workerLeaseService, stats));
             }
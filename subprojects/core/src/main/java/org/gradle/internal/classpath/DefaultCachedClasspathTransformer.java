@@ -33,6 +33,12 @@
 import org.gradle.internal.file.FileType;
 import org.gradle.internal.fingerprint.classpath.ClasspathFingerprinter;
 import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.operations.BuildOperationContext;
+import org.gradle.internal.operations.BuildOperationDescriptor;
+import org.gradle.internal.operations.BuildOperationRef;
+import org.gradle.internal.operations.BuildOperationRunner;
+import org.gradle.internal.operations.CallableBuildOperation;
+import org.gradle.internal.operations.CurrentBuildOperationRef;
 import org.gradle.internal.snapshot.FileSystemLocationSnapshot;
 import org.gradle.internal.vfs.FileSystemAccess;
 import org.jspecify.annotations.NullMarked;
@@ -65,6 +71,7 @@ public class DefaultCachedClasspathTransformer implements CachedClasspathTransfo
     private final ManagedExecutor executor;
     private final ParallelTransformExecutor parallelTransformExecutor;
     private final ClasspathElementTransformFactoryForLegacy classpathElementTransformFactoryForLegacy;
+    private final BuildOperationRunner buildOperationRunner;
 
     public DefaultCachedClasspathTransformer(
         GlobalScopedCacheBuilderFactory cacheBuilderFactory,
@@ -75,7 +82,8 @@ public DefaultCachedClasspathTransformer(
         ExecutorFactory executorFactory,
         GlobalCacheLocations globalCacheLocations,
         FileLockManager fileLockManager,
-        ClasspathElementTransformFactoryForLegacy classpathElementTransformFactoryForLegacy
+        ClasspathElementTransformFactoryForLegacy classpathElementTransformFactoryForLegacy,
+        BuildOperationRunner buildOperationRunner
     ) {
         this.classpathFingerprinter = classpathFingerprinter;
         this.fileSystemAccess = fileSystemAccess;
@@ -86,6 +94,7 @@ public DefaultCachedClasspathTransformer(
         this.executor = executorFactory.create("jar transforms", Runtime.getRuntime().availableProcessors());
         this.parallelTransformExecutor = new ParallelTransformExecutor(cache, executor);
         this.classpathElementTransformFactoryForLegacy = classpathElementTransformFactoryForLegacy;
+        this.buildOperationRunner = buildOperationRunner;
     }
 
     @Override
@@ -183,7 +192,17 @@ private Optional<Either<File, Callable<File>>> cachedFile(
     }
 
     private File transformFile(File original, FileSystemLocationSnapshot snapshot, ClasspathFileTransformer transformer) {
-        final File result = transformer.transform(original, snapshot, cache.getBaseDir());
+        final File result = buildOperationRunner.call(new CallableBuildOperation<File>() {
+            @Override
+            public File call(BuildOperationContext context) {
+                return transformer.transform(original, snapshot, cache.getBaseDir());
+            }
+
+            @Override
+            public BuildOperationDescriptor.Builder description() {
+                return BuildOperationDescriptor.displayName("Transform classpath entry " + original.getName());
+            }
+        });
         markAccessed(result, original);
         return result;
     }
@@ -226,6 +245,8 @@ public <T, U> List<U> transformAll(Collection<T> inputs, ValueOrTransformProvide
                 final List<U> results = new ArrayList<>(inputs.size());
                 final List<Callable<Void>> transforms = new ArrayList<>(inputs.size());
                 final Set<HashCode> seen = new HashSet<>();
+                // Report the transforms running on the executor threads as children of the current operation
+                final BuildOperationRef parent = CurrentBuildOperationRef.instance().get();
                 for (T input : inputs) {
                     valueOrTransformProvider.apply(input, seen).ifPresent(valueOrTransform ->
                         valueOrTransform.apply(
@@ -234,7 +255,7 @@ public <T, U> List<U> transformAll(Collection<T> inputs, ValueOrTransformProvide
                                 final int index = results.size();
                                 results.add(null);
                                 transforms.add(() -> {
-                                    results.set(index, unchecked(transform));
+                                    results.set(index, unchecked(() -> CurrentBuildOperationRef.instance().with(parent, transform::call)));
                                     return null;
                                 });
                             }
@@ -242,6 +263,12 @@ public <T, U> List<U> transformAll(Collection<T> inputs, ValueOrTransformProvide
                     );
                 }
 
+                if (transforms.size() == 1) {
+                    // A single transform, as for each compiled script, is not worth handing off to another thread
+                    unchecked(transforms.get(0));
+                    return results;
+                }
+
                 // Execute all transforms at once
                 for (Future<Void> result : unchecked(() -> executor.invokeAll(transforms))) {
                     // Propagate first failure
@@ -101,7 +101,7 @@ public class InstrumentingClassTransform implements ClassTransform {
 
     private final JvmBytecodeInterceptorSet externalInterceptors;
     private final MethodInterceptionListener methodInterceptionListener;
-    private final InstrumentationMetadata instrumentationMetadata;
+    private final List<JvmBytecodeCallInterceptor> interceptors;
 
     @Override
     public void applyConfigurationTo(Hasher hasher) {
@@ -120,7 +120,9 @@ public InstrumentingClassTransform(BytecodeInterceptorFilter interceptorFilter,
     public InstrumentingClassTransform(BytecodeInterceptorFilter interceptorFilter, InstrumentationTypeRegistry typeRegistry, MethodInterceptionListener methodInterceptionListener) {
         this.externalInterceptors = CallInterceptorRegistry.getJvmBytecodeInterceptors(interceptorFilter);
         this.methodInterceptionListener = methodInterceptionListener;
-        this.instrumentationMetadata = (type, superType) -> typeRegistry.getSuperTypes(type).contains(superType);
+        InstrumentationMetadata instrumentationMetadata = (type, superType) -> typeRegistry.getSuperTypes(type).contains(superType);
+        // The interceptors are immutable and do not depend on the class being visited, so create them once for all the classes this transform is applied to
+        this.interceptors = buildInterceptors(instrumentationMetadata);
     }
 
     private BytecodeInterceptorFilter interceptorFilter() {
@@ -128,16 +130,15 @@ private BytecodeInterceptorFilter interceptorFilter() {
     }
 
     private List<JvmBytecodeCallInterceptor> buildInterceptors(InstrumentationMetadata metadata) {
-        return externalInterceptors.getInterceptors(metadata);
+        List<JvmBytecodeCallInterceptor> interceptors = externalInterceptors.getInterceptors(metadata);
+        if (interceptorFilter().matches(ADHOC_INTERCEPTORS)) {
+            return ImmutableList.<JvmBytecodeCallInterceptor>builderWithExpectedSize(interceptors.size() + 1).add(ADHOC_INTERCEPTORS).addAll(interceptors).build();
+        }
+        return ImmutableList.copyOf(interceptors);
     }
 
     @Override
     public Pair<RelativePath, ClassVisitor> apply(ClasspathEntryVisitor.Entry entry, ClassVisitor visitor, ClassData classData) {
-        // TODO(mlopatkin) can we reuse interceptors in a bigger scope, not per class, but per artifact?
-        List<JvmBytecodeCallInterceptor> interceptors = buildInterceptors(instrumentationMetadata);
-        if (interceptorFilter().matches(ADHOC_INTERCEPTORS)) {
-            interceptors = ImmutableList.<JvmBytecodeCallInterceptor>builderWithExpectedSize(interceptors.size() + 1).add(ADHOC_INTERCEPTORS).addAll(interceptors).build();
-        }
         return Pair.of(entry.getPath(),
             new InstrumentingVisitor(
                 new CallInterceptionClosureInstrumentingClassVisitor(
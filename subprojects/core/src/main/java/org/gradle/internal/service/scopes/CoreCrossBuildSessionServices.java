@@ -22,6 +22,7 @@
 import org.gradle.configuration.internal.DefaultListenerBuildOperationDecorator;
 import org.gradle.configuration.internal.DynamicCallContextTracker;
 import org.gradle.configuration.internal.ListenerBuildOperationDecorator;
+import org.gradle.internal.buildoption.DefaultInternalOptions;
 import org.gradle.internal.code.DefaultUserCodeApplicationContext;
 import org.gradle.internal.code.UserCodeApplicationContext;
 import org.gradle.internal.concurrent.ExecutorFactory;
@@ -43,11 +44,13 @@
 import org.gradle.internal.service.Provides;
 import org.gradle.internal.service.ServiceRegistration;
 import org.gradle.internal.service.ServiceRegistrationProvider;
+import org.gradle.internal.work.AdaptiveWorkerLeaseController;
 import org.gradle.internal.work.DefaultWorkerLeaseService;
 import org.gradle.internal.work.DefaultWorkerLimits;
 import org.gradle.internal.work.ProjectParallelExecutionController;
 import org.gradle.internal.work.WorkerLeaseService;
 import org.gradle.internal.work.WorkerLimits;
+import org.gradle.process.internal.health.memory.MemoryManager;
 
 public class CoreCrossBuildSessionServices implements ServiceRegistrationProvider {
 
@@ -63,6 +66,21 @@ WorkerLimits createWorkerLimits(CrossBuildSessionParameters buildSessionParamete
         return new DefaultWorkerLimits(buildSessionParameters.getStartParameter().getMaxWorkerCount());
     }
 
+    @Provides
+    AdaptiveWorkerLeaseController createAdaptiveWorkerLeaseController(
+        CrossBuildSessionParameters buildSessionParameters,
+        WorkerLeaseService workerLeaseService,
+        MemoryManager memoryManager,
+        BuildOperationRunner buildOperationRunner
+    ) {
+        return new AdaptiveWorkerLeaseController(
+            new DefaultInternalOptions(buildSessionParameters.getStartParameter().getSystemPropertiesArgs()),
+            workerLeaseService,
+            memoryManager,
+            buildOperationRunner
+        );
+    }
+
     @Provides
     BuildOperationExecutor createBuildOperationExecutor(
         BuildOperationRunner buildOperationRunner,
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.work;
+
+import org.gradle.internal.buildoption.InternalFlag;
+import org.gradle.internal.buildoption.InternalOptions;
+import org.gradle.internal.concurrent.Stoppable;
+import org.gradle.internal.operations.BuildOperationContext;
+import org.gradle.internal.operations.BuildOperationDescriptor;
+import org.gradle.internal.operations.BuildOperationRef;
+import org.gradle.internal.operations.BuildOperationRunner;
+import org.gradle.internal.operations.CurrentBuildOperationRef;
+import org.gradle.internal.operations.RunnableBuildOperation;
+import org.gradle.internal.service.scopes.Scope;
+import org.gradle.internal.service.scopes.ServiceScope;
+import org.gradle.process.internal.health.memory.JvmMemoryStatus;
+import org.gradle.process.internal.health.memory.JvmMemoryStatusListener;
+import org.gradle.process.internal.health.memory.MemoryManager;
+import org.gradle.process.internal.health.memory.OsMemoryStatus;
+import org.gradle.process.internal.health.memory.OsMemoryStatusAspect;
+import org.gradle.process.internal.health.memory.OsMemoryStatusListener;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+/**
+ * Adjusts the number of worker leases available to the build based on the load on the machine, when enabled.
+ * <p>
+ * Samples are taken each time the {@link MemoryManager} publishes a memory status, and each change to the number of leases is recorded as a build operation.
+ * <p>
+ * The worker leases are shared by all build trees in the session, so the adjustments are driven by the first build tree to start running work.
+ * Build trees nested in it, such as those run by a {@code GradleBuild} task, share those adjustments, and the number of leases is restored once all of them have finished.
+ */
+@ServiceScope(Scope.CrossBuildSession.class)
+public class AdaptiveWorkerLeaseController implements Stoppable {
+    public static final InternalFlag ADAPTIVE_WORKER_LEASES = new InternalFlag("org.gradle.internal.workers.adaptive");
+
+    private final boolean enabled;
+    private final WorkerLeaseService workerLeaseService;
+    private final MemoryManager memoryManager;
+    private final BuildOperationRunner buildOperationRunner;
+    private final AdaptiveWorkerLeasePolicy policy;
+    private final Listener listener = new Listener();
+    private int activeBuildTrees;
+    @Nullable
+    private volatile BuildOperationRef parentOperation;
+
+    public AdaptiveWorkerLeaseController(InternalOptions internalOptions, WorkerLeaseService workerLeaseService, MemoryManager memoryManager, BuildOperationRunner buildOperationRunner) {
+        this.enabled = internalOptions.getOption(ADAPTIVE_WORKER_LEASES).get();
+        this.workerLeaseService = workerLeaseService;
+        this.memoryManager = memoryManager;
+        this.buildOperationRunner = buildOperationRunner;
+        this.policy = new AdaptiveWorkerLeasePolicy(workerLeaseService.getMaxWorkerCount());
+    }
+
+    /**
+     * Starts adjusting the worker leases on behalf of a build tree that is about to run work, if enabled. Each call must be matched by a call to {@link #release()}.
+     * <p>
+     * Only the first build tree to start drives the adjustments, which are recorded as children of the build operation that is running when it starts.
+     */
+    public synchronized void start() {
+        if (!enabled || workerLeaseService.getMaxWorkerCount() <= 1) {
+            return;
+        }
+        if (activeBuildTrees++ > 0) {
+            return;
+        }
+        parentOperation = CurrentBuildOperationRef.instance().get();
+        memoryManager.addListener((OsMemoryStatusListener) listener);
+        memoryManager.addListener((JvmMemoryStatusListener) listener);
+    }
+
+    /**
+     * Called when a build tree that started the adjustments has finished running work. Stops adjusting the worker leases once all such build trees have finished.
+     */
+    public synchronized void release() {
+        if (activeBuildTrees == 0) {
+            return;
+        }
+        if (--activeBuildTrees > 0) {
+            return;
+        }
+        stopAdjusting();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (activeBuildTrees == 0) {
+            return;
+        }
+        activeBuildTrees = 0;
+        stopAdjusting();
+    }
+
+    private void stopAdjusting() {
+        memoryManager.removeListener((OsMemoryStatusListener) listener);
+        memoryManager.removeListener((JvmMemoryStatusListener) listener);
+        parentOperation = null;
+        workerLeaseService.setWorkerLeaseLimit(workerLeaseService.getMaxWorkerCount());
+    }
+
+    private void adjust(AdaptiveWorkerLeasePolicy.Sample sample) {
+        int previousLimit = workerLeaseService.getWorkerLeaseLimit();
+        AdaptiveWorkerLeasePolicy.Decision decision = policy.decide(previousLimit, sample);
+        if (decision.getWorkerLeaseLimit() == previousLimit) {
+            return;
+        }
+        // Samples are taken on the memory manager thread, so parent the operation to the build operation that started the adjustments
+        CurrentBuildOperationRef.instance().with(parentOperation, () -> buildOperationRunner.run(new RunnableBuildOperation() {
+            @Override
+            public void run(BuildOperationContext context) {
+                int newLimit = workerLeaseService.setWorkerLeaseLimit(decision.getWorkerLeaseLimit());
+                context.setResult((AdjustWorkerLeaseLimitBuildOperationType.Result) () -> newLimit);
+            }
+
+            @Override
+            public BuildOperationDescriptor.Builder description() {
+                return BuildOperationDescriptor.displayName("Adjust worker leases to " + decision.getWorkerLeaseLimit() + " due to " + decision.getReason())
+                    .details(new DecisionDetails(previousLimit, sample, decision.getReason()));
+            }
+        }));
+    }
+
+    private class Listener implements OsMemoryStatusListener, JvmMemoryStatusListener {
+        private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+        private volatile double freeMemoryFraction = -1;
+        private long lastSampleNanos = System.nanoTime();
+        private long lastGcMillis = totalGcTimeMillis();
+
+        @Override
+        public void onOsMemoryStatus(OsMemoryStatus osMemoryStatus) {
+            OsMemoryStatusAspect.Available physicalMemory = osMemoryStatus.getPhysicalMemory();
+            freeMemoryFraction = physicalMemory.getTotal() > 0 ? (double) physicalMemory.getFree() / physicalMemory.getTotal() : -1;
+        }
+
+        @Override
+        public void onJvmMemoryStatus(JvmMemoryStatus memoryStatus) {
+            // The JVM status is published on every tick, after the OS status when that is supported
+            adjust(new AdaptiveWorkerLeasePolicy.Sample(loadPerProcessor(), freeMemoryFraction, gcTimeFraction()));
+        }
+
+        private double loadPerProcessor() {
+            double loadAverage = operatingSystem.getSystemLoadAverage();
+            return loadAverage < 0 ? -1 : loadAverage / operatingSystem.getAvailableProcessors();
+        }
+
+        private double gcTimeFraction() {
+            long now = System.nanoTime();
+            long gcMillis = totalGcTimeMillis();
+            long elapsedMillis = (now - lastSampleNanos) / 1_000_000;
+            double fraction = elapsedMillis > 0 ? (double) (gcMillis - lastGcMillis) / elapsedMillis : 0;
+            lastSampleNanos = now;
+            lastGcMillis = gcMillis;
+            return fraction;
+        }
+
+        private long totalGcTimeMillis() {
+            long total = 0;
+            for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                total += Math.max(0, garbageCollector.getCollectionTime());
+            }
+            return total;
+        }
+    }
+
+    private class DecisionDetails implements AdjustWorkerLeaseLimitBuildOperationType.Details {
+        private final int previousLimit;
+        private final AdaptiveWorkerLeasePolicy.Sample sample;
+        private final String reason;
+
+        DecisionDetails(int previousLimit, AdaptiveWorkerLeasePolicy.Sample sample, String reason) {
+            this.previousLimit = previousLimit;
+            this.sample = sample;
+            this.reason = reason;
+        }
+
+        @Override
+        public int getMaxWorkerCount() {
+            return workerLeaseService.getMaxWorkerCount();
+        }
+
+        @Override
+        public int getPreviousWorkerLeaseLimit() {
+            return previousLimit;
+        }
+
+        @Override
+        public double getLoadPerProcessor() {
+            return sample.getLoadPerProcessor();
+        }
+
+        @Override
+        public double getFreeMemoryFraction() {
+            return sample.getFreeMemoryFraction();
+        }
+
+        @Override
+        public double getGcTimeFraction() {
+            return sample.getGcTimeFraction();
+        }
+
+        @Override
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.work;
+
+/**
+ * Calculates the number of worker leases to make available, given a sample of the current load on the machine.
+ * <p>
+ * The policy backs off quickly when the machine is under memory or GC pressure, and recovers one lease at a time when the machine has spare capacity.
+ * The result is always between 1 and the configured maximum worker count.
+ */
+public class AdaptiveWorkerLeasePolicy {
+    // Below this fraction of free physical memory, halve the number of workers
+    static final double CRITICAL_FREE_MEMORY_FRACTION = 0.05;
+    // Below this fraction of free physical memory, remove a worker
+    static final double LOW_FREE_MEMORY_FRACTION = 0.15;
+    // Above this fraction of wall time spent in GC, remove a worker
+    static final double HIGH_GC_TIME_FRACTION = 0.25;
+    // Above this system load per processor, remove a worker
+    static final double HIGH_LOAD_PER_PROCESSOR = 1.5;
+    // Below this system load per processor, add a worker
+    static final double LOW_LOAD_PER_PROCESSOR = 0.75;
+
+    private final int maxWorkerCount;
+
+    public AdaptiveWorkerLeasePolicy(int maxWorkerCount) {
+        this.maxWorkerCount = maxWorkerCount;
+    }
+
+    public Decision decide(int currentLimit, Sample sample) {
+        int target;
+        String reason;
+        if (sample.freeMemoryFraction >= 0 && sample.freeMemoryFraction < CRITICAL_FREE_MEMORY_FRACTION) {
+            target = currentLimit / 2;
+            reason = "critically low free physical memory";
+        } else if (sample.freeMemoryFraction >= 0 && sample.freeMemoryFraction < LOW_FREE_MEMORY_FRACTION) {
+            target = currentLimit - 1;
+            reason = "low free physical memory";
+        } else if (sample.gcTimeFraction > HIGH_GC_TIME_FRACTION) {
+            target = currentLimit - 1;
+            reason = "high GC pressure in the daemon";
+        } else if (sample.loadPerProcessor > HIGH_LOAD_PER_PROCESSOR) {
+            target = currentLimit - 1;
+            reason = "high system load";
+        } else if (sample.loadPerProcessor >= 0 && sample.loadPerProcessor < LOW_LOAD_PER_PROCESSOR) {
+            target = currentLimit + 1;
+            reason = "spare system capacity";
+        } else {
+            target = currentLimit;
+            reason = "no change in system load";
+        }
+        return new Decision(Math.max(1, Math.min(maxWorkerCount, target)), reason);
+    }
+
+    /**
+     * A sample of the load on the machine. Negative values mean the value is not available.
+     */
+    public static class Sample {
+        private final double loadPerProcessor;
+        private final double freeMemoryFraction;
+        private final double gcTimeFraction;
+
+        public Sample(double loadPerProcessor, double freeMemoryFraction, double gcTimeFraction) {
+            this.loadPerProcessor = loadPerProcessor;
+            this.freeMemoryFraction = freeMemoryFraction;
+            this.gcTimeFraction = gcTimeFraction;
+        }
+
+        public double getLoadPerProcessor() {
+            return loadPerProcessor;
+        }
+
+        public double getFreeMemoryFraction() {
+            return freeMemoryFraction;
+        }
+
+        public double getGcTimeFraction() {
+            return gcTimeFraction;
+        }
+    }
+
+    public static class Decision {
+        private final int workerLeaseLimit;
+        private final String reason;
+
+        public Decision(int workerLeaseLimit, String reason) {
+            this.workerLeaseLimit = workerLeaseLimit;
+            this.reason = reason;
+        }
+
+        public int getWorkerLeaseLimit() {
+            return workerLeaseLimit;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
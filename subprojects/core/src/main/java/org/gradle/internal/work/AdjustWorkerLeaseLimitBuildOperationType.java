@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.work;
+
+import org.gradle.internal.operations.BuildOperationType;
+
+/**
+ * Records a change to the number of worker leases made by adaptive worker leasing.
+ */
+public interface AdjustWorkerLeaseLimitBuildOperationType extends BuildOperationType<AdjustWorkerLeaseLimitBuildOperationType.Details, AdjustWorkerLeaseLimitBuildOperationType.Result> {
+    interface Details {
+        int getMaxWorkerCount();
+
+        int getPreviousWorkerLeaseLimit();
+
+        /**
+         * System load average per available processor, or a negative value when not available.
+         */
+        double getLoadPerProcessor();
+
+        /**
+         * Fraction of physical memory that is free, or a negative value when not available.
+         */
+        double getFreeMemoryFraction();
+
+        /**
+         * Fraction of wall time spent in garbage collection in the daemon since the previous sample.
+         */
+        double getGcTimeFraction();
+
+        String getReason();
+    }
+
+    interface Result {
+        int getWorkerLeaseLimit();
+    }
+}
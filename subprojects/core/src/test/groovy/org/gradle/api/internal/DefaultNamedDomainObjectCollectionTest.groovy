@@ -87,6 +87,60 @@ class DefaultNamedDomainObjectCollectionTest extends AbstractNamedDomainObjectCo
         container.names == ["bean1", "bean2", "bean3"] as SortedSet
     }
 
+    def "views filtered by type reflect changes to the container"() {
+        given:
+        container.add(a)
+        container.add(d)
+
+        expect:
+        container.withType(BeanSub1).asMap == [a: a]
+        container.withType(BeanSub2).names == ["d"] as SortedSet
+
+        when:
+        container.add(b)
+        container.remove(a)
+        container.withType(BeanSub1).asMap.put("c", c)
+
+        then:
+        container.withType(BeanSub1).asMap == [b: b]
+        container.withType(BeanSub1).names == ["b"] as SortedSet
+        container.withType(BeanSub2).asMap == [d: d]
+    }
+
+    def "views filtered by type reflect changes to pending elements"() {
+        given:
+        def pending1 = new TestNamedProvider("p1", new BeanSub1("p1"))
+        def pending2 = new TestNamedProvider("p2", new BeanSub1("p2"))
+        container.add(a)
+        container.addLater(pending1)
+
+        expect:
+        container.withType(BeanSub1).names == ["a", "p1"] as SortedSet
+        container.withType(BeanSub1).index.pendingAsMap.keySet() == ["p1"] as Set
+        container.withType(BeanSub2).names.empty
+
+        when:
+        container.addLater(pending2)
+
+        then:
+        container.withType(BeanSub1).names == ["a", "p1", "p2"] as SortedSet
+        container.withType(BeanSub1).index.pendingAsMap.keySet() == ["p1", "p2"] as Set
+
+        when:
+        container.remove(pending1)
+
+        then:
+        container.withType(BeanSub1).names == ["a", "p2"] as SortedSet
+        container.withType(BeanSub1).index.pendingAsMap.keySet() == ["p2"] as Set
+
+        when:
+        container.withType(BeanSub1).toList()
+
+        then:
+        container.withType(BeanSub1).names == ["a", "p2"] as SortedSet
+        container.withType(BeanSub1).asMap.keySet() == ["a", "p2"] as Set
+    }
+
     def "returns null element with name is not present and there are no rules to create it"() {
         expect:
         container.findByName("bean") == null
@@ -435,6 +435,40 @@ class DefaultPolymorphicDomainObjectContainerTest extends AbstractPolymorphicDom
         bob.get().age == 100
     }
 
+    def "views filtered by type reflect elements being registered, removed and realized"() {
+        container.registerFactory(Person, { new DefaultPerson(name: it) } as NamedDomainObjectFactory)
+        container.registerFactory(AgeAwarePerson, { new DefaultAgeAwarePerson(name: it) } as NamedDomainObjectFactory)
+        container.register("fred", Person)
+        def bob = container.register("bob", AgeAwarePerson)
+        def ageAware = container.withType(AgeAwarePerson)
+
+        expect:
+        ageAware.names == ["bob"] as SortedSet
+        ageAware.index.pendingAsMap.keySet() == ["bob"] as Set
+
+        when:
+        def alice = container.register("alice", AgeAwarePerson)
+
+        then:
+        ageAware.names == ["alice", "bob"] as SortedSet
+        ageAware.index.pendingAsMap.keySet() == ["bob", "alice"] as Set
+
+        when:
+        container.remove(alice)
+
+        then:
+        ageAware.names == ["bob"] as SortedSet
+        ageAware.index.pendingAsMap.keySet() == ["bob"] as Set
+
+        when:
+        bob.get()
+
+        then:
+        ageAware.names == ["bob"] as SortedSet
+        ageAware.index.pendingAsMap.isEmpty()
+        ageAware.asMap.keySet() == ["bob"] as Set
+    }
+
     def "gets useful message if type does not match registered type"() {
         container.registerFactory(Person, { new DefaultPerson(name: it) } as NamedDomainObjectFactory)
         container.registerFactory(AgeAwarePerson, { new DefaultAgeAwarePerson(name: it) } as NamedDomainObjectFactory)
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.execution
+
+import org.gradle.api.internal.project.ProjectState
+import org.gradle.util.Path
+import spock.lang.Specification
+
+class TaskPathProjectEvaluatorTest extends Specification {
+
+    def "schedules children with the largest hierarchy first"() {
+        def small = project(":small")
+        def large = project(":large")
+        def medium = project(":medium")
+        def parent = project(":", small, large, medium)
+
+        expect:
+        TaskPathProjectEvaluator.childrenInSchedulingOrder(parent, [(small): 1, (large): 5, (medium): 3]) == [large, medium, small]
+    }
+
+    def "schedules children with hierarchies of the same size in path order"() {
+        def c = project(":c")
+        def a = project(":a")
+        def d = project(":d")
+        def b = project(":b")
+        def parent = project(":", c, a, d, b)
+
+        expect:
+        TaskPathProjectEvaluator.childrenInSchedulingOrder(parent, [(a): 2, (b): 1, (c): 2, (d): 1]) == [a, c, b, d]
+    }
+
+    private ProjectState project(String path, ProjectState... children) {
+        def project = Stub(ProjectState)
+        project.identityPath >> Path.path(path)
+        project.childProjects >> (children as LinkedHashSet)
+        return project
+    }
+}
@@ -33,6 +33,7 @@ import org.gradle.internal.fingerprint.CurrentFileCollectionFingerprint
 import org.gradle.internal.fingerprint.FileCollectionFingerprint
 import org.gradle.internal.fingerprint.classpath.ClasspathFingerprinter
 import org.gradle.internal.hash.Hasher
+import org.gradle.internal.operations.TestBuildOperationRunner
 import org.gradle.internal.snapshot.FileSystemLocationSnapshot
 import org.gradle.internal.snapshot.FileSystemSnapshot
 import org.gradle.test.fixtures.archive.ZipTestFixture
@@ -84,6 +85,7 @@ class DefaultCachedClasspathTransformerTest extends ConcurrentSpec {
             }
         }
     }
+    def buildOperationRunner = new TestBuildOperationRunner()
     def classpathElementTransformFactoryForLegacy = new ClasspathElementTransformFactoryForLegacy(classpathBuilder, classpathWalker)
     def noOpCustomTransform = new ClassTransform() {
         @Override
@@ -108,7 +110,8 @@ class DefaultCachedClasspathTransformerTest extends ConcurrentSpec {
         executorFactory,
         globalCacheLocations,
         fileLockManager,
-        classpathElementTransformFactoryForLegacy
+        classpathElementTransformFactoryForLegacy,
+        buildOperationRunner
     )
 
     def cleanup() {
@@ -342,6 +345,21 @@ class DefaultCachedClasspathTransformerTest extends ConcurrentSpec {
         0 * fileAccessTimeJournal._
     }
 
+    def "runs each transform as a build operation"() {
+        given:
+        def dir = testDir.file("thing.dir")
+        classesDir(dir)
+        def file = testDir.file("thing.jar")
+        jar(file)
+        def classpath = DefaultClassPath.of(dir, file)
+
+        when:
+        transformer.transform(classpath, noOpCustomTransform)
+
+        then:
+        buildOperationRunner.log.descriptors*.displayName.toSet() == ["Transform classpath entry thing.dir", "Transform classpath entry thing.jar"] as Set
+    }
+
     def "copying transform removes entries with duplicate content"() {
         given:
         def dir = testDir.file("thing.dir")
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.work
+
+import org.gradle.internal.buildoption.DefaultInternalOptions
+import org.gradle.internal.operations.TestBuildOperationRunner
+import org.gradle.process.internal.health.memory.JvmMemoryStatusListener
+import org.gradle.process.internal.health.memory.MemoryManager
+import org.gradle.process.internal.health.memory.OsMemoryStatusListener
+import spock.lang.Specification
+
+class AdaptiveWorkerLeaseControllerTest extends Specification {
+    def workerLeaseService = Mock(WorkerLeaseService) {
+        _ * getMaxWorkerCount() >> 4
+    }
+    def memoryManager = Mock(MemoryManager)
+    def controller = new AdaptiveWorkerLeaseController(new DefaultInternalOptions([(AdaptiveWorkerLeaseController.ADAPTIVE_WORKER_LEASES.systemPropertyName): "true"]), workerLeaseService, memoryManager, new TestBuildOperationRunner())
+
+    def "nested build trees share the adjustments started by the first build tree"() {
+        when:
+        controller.start()
+
+        then:
+        1 * memoryManager.addListener(_ as OsMemoryStatusListener)
+        1 * memoryManager.addListener(_ as JvmMemoryStatusListener)
+
+        when:
+        controller.start()
+        controller.release()
+
+        then:
+        0 * memoryManager._
+        0 * workerLeaseService.setWorkerLeaseLimit(_)
+
+        when:
+        controller.release()
+
+        then:
+        1 * memoryManager.removeListener(_ as OsMemoryStatusListener)
+        1 * memoryManager.removeListener(_ as JvmMemoryStatusListener)
+        1 * workerLeaseService.setWorkerLeaseLimit(4)
+    }
+
+    def "restores the worker leases when stopped while build trees are running"() {
+        given:
+        controller.start()
+        controller.start()
+
+        when:
+        controller.stop()
+        controller.release()
+
+        then:
+        1 * memoryManager.removeListener(_ as OsMemoryStatusListener)
+        1 * memoryManager.removeListener(_ as JvmMemoryStatusListener)
+        1 * workerLeaseService.setWorkerLeaseLimit(4)
+    }
+
+    def "does nothing when not enabled"() {
+        given:
+        def controller = new AdaptiveWorkerLeaseController(new DefaultInternalOptions([:]), workerLeaseService, memoryManager, new TestBuildOperationRunner())
+
+        when:
+        controller.start()
+        controller.release()
+        controller.stop()
+
+        then:
+        0 * memoryManager._
+        0 * workerLeaseService.setWorkerLeaseLimit(_)
+    }
+}
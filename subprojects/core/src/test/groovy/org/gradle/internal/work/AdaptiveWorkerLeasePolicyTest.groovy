@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.work
+
+import spock.lang.Specification
+
+class AdaptiveWorkerLeasePolicyTest extends Specification {
+    def policy = new AdaptiveWorkerLeasePolicy(8)
+
+    def "halves workers when free memory is critically low"() {
+        expect:
+        policy.decide(8, sample(0.5, 0.01, 0)).workerLeaseLimit == 4
+        policy.decide(1, sample(0.5, 0.01, 0)).workerLeaseLimit == 1
+    }
+
+    def "removes a worker when under pressure"() {
+        expect:
+        policy.decide(6, sample(load, freeMemory, gc)).workerLeaseLimit == 5
+
+        where:
+        load | freeMemory | gc
+        0.5  | 0.1        | 0
+        0.5  | 0.5        | 0.5
+        2    | 0.5        | 0
+        2    | -1         | 0
+    }
+
+    def "adds a worker when there is spare capacity"() {
+        expect:
+        policy.decide(6, sample(0.2, 0.5, 0)).workerLeaseLimit == 7
+        policy.decide(8, sample(0.2, 0.5, 0)).workerLeaseLimit == 8
+    }
+
+    def "does not add workers when load is unknown"() {
+        expect:
+        policy.decide(6, sample(-1, -1, 0)).workerLeaseLimit == 6
+    }
+
+    def "keeps workers when load is moderate"() {
+        expect:
+        policy.decide(6, sample(1, 0.5, 0.1)).workerLeaseLimit == 6
+    }
+
+    def sample(double load, double freeMemory, double gc) {
+        return new AdaptiveWorkerLeasePolicy.Sample(load, freeMemory, gc)
+    }
+}
@@ -71,6 +71,16 @@ class TestWorkerLeaseService implements WorkerLeaseService {
         return 0
     }
 
+    @Override
+    int getWorkerLeaseLimit() {
+        return 0
+    }
+
+    @Override
+    int setWorkerLeaseLimit(int limit) {
+        return 0
+    }
+
     @Override
     WorkerLease getCurrentWorkerLease() {
         return workerLease()
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.performance.experiment.java
+
+import org.gradle.performance.AbstractCrossBuildPerformanceTest
+import org.gradle.performance.annotations.RunFor
+import org.gradle.performance.annotations.Scenario
+import org.gradle.performance.fixture.GradleBuildExperimentSpec
+
+import static org.gradle.performance.annotations.ScenarioType.PER_WEEK
+import static org.gradle.performance.results.OperatingSystem.LINUX
+
+@RunFor(
+    @Scenario(type = PER_WEEK, operatingSystems = [LINUX], testProjects = ["largeJavaMultiProject"])
+)
+class ConfigurationCacheCompressionPerformanceTest extends AbstractCrossBuildPerformanceTest {
+
+    def "assemble loading compressed configuration cache state"() {
+        given:
+        runner.testGroup = "configuration cache"
+        runner.buildSpec {
+            displayName("compressed")
+            invocation {
+                args(
+                    "--configuration-cache",
+                    "--project-cache-dir=.gradle-compressed",
+                    "-Dorg.gradle.configuration-cache.internal.compress=true"
+                )
+            }
+        }
+        runner.baseline {
+            displayName("uncompressed")
+            invocation {
+                args(
+                    "--configuration-cache",
+                    "--project-cache-dir=.gradle-uncompressed",
+                    "-Dorg.gradle.configuration-cache.internal.compress=false"
+                )
+            }
+        }
+
+        when:
+        def results = runner.run()
+
+        then:
+        results
+    }
+
+    @Override
+    protected void defaultSpec(GradleBuildExperimentSpec.GradleBuilder builder) {
+        super.defaultSpec(builder)
+        builder.warmUpCount = 5
+        builder.invocationCount = 20
+        builder.invocation {
+            tasksToRun("assemble")
+        }
+    }
+}
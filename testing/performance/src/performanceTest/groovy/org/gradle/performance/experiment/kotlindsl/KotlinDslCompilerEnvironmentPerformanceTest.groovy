@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.performance.experiment.kotlindsl
+
+import org.gradle.performance.AbstractCrossBuildPerformanceTest
+import org.gradle.performance.annotations.RunFor
+import org.gradle.performance.annotations.Scenario
+import org.gradle.performance.fixture.GradleBuildExperimentSpec
+import org.gradle.performance.mutator.ApplyAbiChangeToGroovySourceFileMutator
+import org.gradle.profiler.BuildMutator
+import org.gradle.profiler.InvocationSettings
+
+import static org.gradle.performance.annotations.ScenarioType.PER_WEEK
+import static org.gradle.performance.results.OperatingSystem.LINUX
+
+@RunFor(
+    @Scenario(type = PER_WEEK, operatingSystems = [LINUX], testProjects = ["largeJavaMultiProjectKotlinDsl"])
+)
+class KotlinDslCompilerEnvironmentPerformanceTest extends AbstractCrossBuildPerformanceTest {
+
+    private static final String CHANGING_CLASS_FILE_PATH = "buildSrc/src/main/groovy/ChangingClass.groovy"
+
+    def "recompile scripts after buildSrc abi change on a warm daemon"() {
+        given:
+        runner.testGroup = "kotlin dsl"
+        runner.buildSpec {
+            displayName("retained compiler environment")
+            invocation {
+                args("-Dorg.gradle.internal.kotlin-script-compiler-environment-retained=true")
+            }
+        }
+        runner.baseline {
+            displayName("disposed compiler environment")
+            invocation {
+                args("-Dorg.gradle.internal.kotlin-script-compiler-environment-retained=false")
+            }
+        }
+
+        when:
+        def results = runner.run()
+
+        then:
+        results
+    }
+
+    @Override
+    protected void defaultSpec(GradleBuildExperimentSpec.GradleBuilder builder) {
+        super.defaultSpec(builder)
+        builder.warmUpCount = 3
+        builder.invocationCount = 10
+        builder.addBuildMutator { new CreateChangingClassMutator(it) }
+        builder.addBuildMutator { new ApplyAbiChangeToGroovySourceFileMutator(new File(it.projectDir, CHANGING_CLASS_FILE_PATH)) }
+        builder.invocation {
+            tasksToRun("help")
+        }
+    }
+
+    private static class CreateChangingClassMutator implements BuildMutator {
+
+        CreateChangingClassMutator(InvocationSettings settings) {
+            new File(settings.projectDir, CHANGING_CLASS_FILE_PATH).with {
+                parentFile.mkdirs()
+                // The file change mutators read the text of the file in their constructor, so create it here
+                text = """
+                    class ChangingClass {
+                        void changingMethod() {
+                            System.out.println("Do the thing");
+                        }
+                    }
+                """
+            }
+        }
+    }
+}